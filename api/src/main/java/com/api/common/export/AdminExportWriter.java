@@ -0,0 +1,102 @@
+package com.api.common.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.jooq.Cursor;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * jOOQ 커서의 행을 NDJSON/CSV로 응답 스트림에 바로 기록합니다.
+ * 한 번에 한 행만 메모리에 두므로 행 수와 관계없이 힙 사용량이 일정합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AdminExportWriter {
+    private static final int FLUSH_EVERY = 1_000;
+
+    private final ObjectMapper objectMapper;
+
+    public long write(Cursor<Record> cursor, ExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 64 * 1024);
+
+        Field<?>[] fields = cursor.fields();
+        if (format == ExportFormat.CSV) {
+            writeCsvHeader(writer, fields);
+        }
+
+        long rows = 0;
+        for (Record record : cursor) {
+            switch (format) {
+                case NDJSON -> writeJsonLine(writer, fields, record);
+                case CSV -> writeCsvLine(writer, fields, record);
+            }
+            // 클라이언트가 진행 상황을 받을 수 있도록 주기적으로 내보냄
+            if (++rows % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+
+        writer.flush();
+        if (target instanceof GZIPOutputStream gzipOut) {
+            gzipOut.finish();
+        }
+        return rows;
+    }
+
+    private void writeJsonLine(Writer writer, Field<?>[] fields, Record record) throws IOException {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (Field<?> field : fields) {
+            row.put(field.getName(), record.get(field));
+        }
+        writer.write(objectMapper.writeValueAsString(row));
+        writer.write('\n');
+    }
+
+    private void writeCsvHeader(Writer writer, Field<?>[] fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(fields[i].getName()));
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsvLine(Writer writer, Field<?>[] fields, Record record) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = record.get(fields[i]);
+            writer.write(value == null ? "" : escapeCsv(value.toString()));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180 이스케이프 + 스프레드시트 수식으로 해석되는 값(=, +, -, @로 시작)은 앞에 '를 붙여 무력화
+     */
+    static String escapeCsv(String value) {
+        String escaped = value;
+        if (!escaped.isEmpty() && "=+-@".indexOf(escaped.charAt(0)) >= 0) {
+            escaped = "'" + escaped;
+        }
+        if (escaped.indexOf(',') >= 0 || escaped.indexOf('"') >= 0 || escaped.indexOf('\n') >= 0 || escaped.indexOf('\r') >= 0) {
+            escaped = "\"" + escaped.replace("\"", "\"\"") + "\"";
+        }
+        return escaped;
+    }
+}
@@ -0,0 +1,29 @@
+package com.api.common.export;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 내보내기 응답(다운로드 파일명/Content-Type) 생성
+ */
+public final class ExportResponses {
+
+    private ExportResponses() {
+    }
+
+    public static ResponseEntity<StreamingResponseBody> of(String baseName, ExportFormat format, boolean gzip, StreamingResponseBody body) {
+        String fileName = baseName + "-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE)
+                + "." + format.getExtension() + (gzip ? ".gz" : "");
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+}
@@ -0,0 +1,17 @@
+package com.api.common.id;
+
+import java.time.Instant;
+
+/**
+ * 애플리케이션에서 발급하는 64비트 ID 생성기.
+ * 발급된 ID는 시간 순으로 증가하므로 keyset 페이지네이션 커서나 클라이언트 메시지 ID로 그대로 사용할 수 있습니다.
+ */
+public interface IdGenerator {
+    long nextId();
+
+    /**
+     * 해당 시각 이후에 발급되는 ID의 하한을 반환합니다.
+     * 시각 범위를 ID 범위로 바꿔 ID 기준 파티션 프루닝/keyset 조회에 사용합니다.
+     */
+    long minIdAt(Instant instant);
+}
@@ -0,0 +1,86 @@
+package com.api.common.id;
+
+import com.api.config.properties.IdGeneratorProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ID 생성기의 워커 ID를 Redis 임대(id:worker:{n}, SET NX PX)로 노드 간에 조율합니다.
+ * 임대는 주기적으로 갱신하며, 갱신에 실패하면(GC 정지 등으로 만료 후 다른 노드가 가져감) 새 워커 ID를 다시 임대합니다.
+ */
+@Slf4j
+@Component
+public class RedisWorkerIdAllocator {
+    private static final String KEY_PREFIX = "id:worker:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisScript<Long> workerLeaseRenewScript;
+    private final IdGeneratorProperties properties;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private volatile int workerId;
+
+    public RedisWorkerIdAllocator(
+            StringRedisTemplate stringRedisTemplate,
+            RedisScript<Long> workerLeaseRenewScript,
+            IdGeneratorProperties properties
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.workerLeaseRenewScript = workerLeaseRenewScript;
+        this.properties = properties;
+        this.workerId = acquire();
+    }
+
+    public int getWorkerId() {
+        return workerId;
+    }
+
+    /**
+     * 임대를 갱신합니다. 이미 다른 노드가 가져갔다면 새 워커 ID를 임대합니다.
+     */
+    @Scheduled(fixedDelayString = "${id.generator.worker-renew-interval:10s}")
+    public void renew() {
+        try {
+            Long renewed = stringRedisTemplate.execute(
+                    workerLeaseRenewScript,
+                    List.of(KEY_PREFIX + workerId),
+                    instanceId,
+                    String.valueOf(properties.workerLease().toMillis())
+            );
+            if (renewed == null || renewed == 0) {
+                log.warn("워커 ID {} 임대를 잃어 새로 임대합니다.", workerId);
+                workerId = acquire();
+            }
+        } catch (Exception e) {
+            // 스케줄러는 에러 발생 시 스레드가 멈추기 때문에 예외 처리 필요
+            log.error("워커 ID 임대 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        String key = KEY_PREFIX + workerId;
+        if (instanceId.equals(stringRedisTemplate.opsForValue().get(key))) {
+            stringRedisTemplate.delete(key);
+        }
+    }
+
+    private int acquire() {
+        for (int candidate = 0; candidate <= SnowflakeIdGenerator.MAX_WORKER_ID; candidate++) {
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(KEY_PREFIX + candidate, instanceId, properties.workerLease());
+            if (Boolean.TRUE.equals(acquired)) {
+                log.info("ID 생성기 워커 ID {} 임대", candidate);
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("사용 가능한 ID 생성기 워커 ID가 없습니다.");
+    }
+}
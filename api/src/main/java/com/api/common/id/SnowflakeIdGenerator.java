@@ -0,0 +1,81 @@
+package com.api.common.id;
+
+import java.time.Instant;
+import java.util.function.IntSupplier;
+
+/**
+ * Snowflake 방식 ID 생성기.
+ * [부호 1비트][epoch 이후 밀리초 41비트][워커 ID 10비트][밀리초 내 순번 12비트]
+ * 워커당 밀리초마다 4096개까지 발급하며, 초과하면 다음 밀리초까지 대기합니다.
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+    static final int WORKER_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final int MAX_WORKER_ID = (1 << WORKER_BITS) - 1;
+
+    /**
+     * IDENTITY로 발급되던 기존 행의 ID 상한.
+     * Snowflake ID는 epoch 직후 약 1초 구간에서만 이 값보다 작으므로, 이 값 미만의 ID는 IDENTITY 시절 행으로 간주합니다.
+     */
+    public static final long IDENTITY_ID_BOUND = 1L << 32;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long epochMillis;
+    private final IntSupplier workerId;
+
+    private long lastMillis = -1L;
+    private long sequence = 0L;
+
+    /**
+     * @param workerId 현재 워커 ID (임대가 갱신되며 바뀔 수 있으므로 발급 시마다 조회)
+     */
+    public SnowflakeIdGenerator(Instant epoch, IntSupplier workerId) {
+        this.epochMillis = epoch.toEpochMilli();
+        this.workerId = workerId;
+    }
+
+    @Override
+    public synchronized long nextId() {
+        long now = System.currentTimeMillis();
+
+        // 시계가 뒤로 간 경우 마지막 발급 시각을 계속 사용 (순번이 소진되면 다음 밀리초로 넘어감)
+        if (now < lastMillis) {
+            now = lastMillis;
+        }
+
+        if (now == lastMillis) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                now = waitNextMillis(lastMillis);
+            }
+        } else {
+            sequence = 0L;
+        }
+        lastMillis = now;
+
+        return ((now - epochMillis) << (WORKER_BITS + SEQUENCE_BITS))
+                | ((long) workerId.getAsInt() << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    @Override
+    public long minIdAt(Instant instant) {
+        return Math.max(0L, instant.toEpochMilli() - epochMillis) << (WORKER_BITS + SEQUENCE_BITS);
+    }
+
+    /**
+     * ID에서 발급 시각을 추출합니다.
+     */
+    public Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (WORKER_BITS + SEQUENCE_BITS)) + epochMillis);
+    }
+
+    private long waitNextMillis(long last) {
+        long now = System.currentTimeMillis();
+        while (now <= last) {
+            Thread.onSpinWait();
+            now = System.currentTimeMillis();
+        }
+        return now;
+    }
+}
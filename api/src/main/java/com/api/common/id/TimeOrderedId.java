@@ -0,0 +1,18 @@
+package com.api.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 엔티티 ID를 IdGenerator(시간 정렬 64비트)로 발급합니다.
+ * IDENTITY와 달리 INSERT 전에 키가 정해지므로 Hibernate JDBC 배치 INSERT가 가능합니다.
+ */
+@IdGeneratorType(TimeOrderedIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
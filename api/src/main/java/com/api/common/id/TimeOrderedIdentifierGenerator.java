@@ -0,0 +1,25 @@
+package com.api.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+/**
+ * Hibernate가 직접 생성하는 식별자 생성기에서 Spring 빈인 IdGenerator를 사용하기 위한 어댑터.
+ * IdGeneratorConfig가 기동 시 install로 생성기를 등록합니다.
+ */
+public class TimeOrderedIdentifierGenerator implements IdentifierGenerator {
+    private static volatile IdGenerator delegate;
+
+    public static void install(IdGenerator idGenerator) {
+        delegate = idGenerator;
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        IdGenerator generator = delegate;
+        if (generator == null) {
+            throw new IllegalStateException("IdGenerator가 아직 등록되지 않았습니다.");
+        }
+        return generator.nextId();
+    }
+}
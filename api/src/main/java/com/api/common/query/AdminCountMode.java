@@ -0,0 +1,23 @@
+package com.api.common.query;
+
+/**
+ * 관리자 목록의 총 개수 계산 방식
+ */
+public enum AdminCountMode {
+    /**
+     * 매 요청마다 SELECT COUNT(*) (정확하지만 조건에 맞는 행을 모두 읽음)
+     */
+    EXACT,
+    /**
+     * 정확한 COUNT 결과를 같은 검색 조건 단위로 Redis에 TTL 동안 캐시
+     */
+    CACHED,
+    /**
+     * EXPLAIN의 예상 행 수 (행을 읽지 않으므로 매우 빠르지만 근사치)
+     */
+    ESTIMATED,
+    /**
+     * COUNT 없이 다음 페이지 존재 여부만 확인 (Slice). 총 개수는 지금까지 본 행 수 + 다음 페이지 여부로 채움
+     */
+    NONE
+}
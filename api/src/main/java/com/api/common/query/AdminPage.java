@@ -0,0 +1,23 @@
+package com.api.common.query;
+
+import lombok.Getter;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * 관리자 목록 페이지. 기존 Page 응답에 다음 페이지 커서와 총 개수 계산 방식을 더합니다.
+ * countMode가 EXACT/CACHED가 아니면 totalElements는 근사치입니다.
+ */
+@Getter
+public class AdminPage<T> extends PageImpl<T> {
+    private final Long nextCursor;
+    private final AdminCountMode countMode;
+
+    public AdminPage(List<T> content, Pageable pageable, long total, Long nextCursor, AdminCountMode countMode) {
+        super(content, pageable, total);
+        this.nextCursor = nextCursor;
+        this.countMode = countMode;
+    }
+}
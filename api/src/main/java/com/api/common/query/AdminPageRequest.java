@@ -0,0 +1,15 @@
+package com.api.common.query;
+
+/**
+ * 관리자 목록 조회의 페이징 옵션 (쿼리 파라미터로 바인딩)
+ * @param countMode 총 개수 계산 방식 (없으면 admin.query.default-count-mode)
+ * @param cursor 이전 페이지 응답의 nextCursor. 있으면 OFFSET 대신 키 seek으로 다음 페이지를 조회
+ */
+public record AdminPageRequest(
+        AdminCountMode countMode,
+        Long cursor
+) {
+    public static AdminPageRequest defaults() {
+        return new AdminPageRequest(null, null);
+    }
+}
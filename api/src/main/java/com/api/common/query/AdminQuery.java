@@ -0,0 +1,27 @@
+package com.api.common.query;
+
+import org.jooq.Condition;
+import org.jooq.Field;
+import org.jooq.SelectFieldOrAsterisk;
+import org.jooq.Table;
+
+import java.util.List;
+
+/**
+ * 관리자 목록 조회 한 건의 정의
+ * @param table 조회 테이블
+ * @param condition 검색 조건
+ * @param fields 조회 컬럼 (key 포함)
+ * @param key 정렬/커서 키. 유일하고 인덱스가 있는 Long 컬럼(PK)이어야 함
+ * @param descending key 내림차순 여부
+ * @param type 결과 DTO 타입
+ */
+public record AdminQuery<T>(
+        Table<?> table,
+        Condition condition,
+        List<? extends SelectFieldOrAsterisk> fields,
+        Field<Long> key,
+        boolean descending,
+        Class<T> type
+) {
+}
@@ -0,0 +1,126 @@
+package com.api.common.query;
+
+import com.api.config.properties.AdminQueryProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.Condition;
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 관리자 jOOQ 저장소 공용 목록 조회.
+ * - cursor가 있으면 OFFSET 없이 key seek(WHERE key < cursor)으로 다음 페이지를 읽어, 페이지가 깊어져도 pageSize + 1행만 읽습니다.
+ * - pageSize + 1행을 읽어 다음 페이지 여부를 판단하므로 NONE 모드는 COUNT를 실행하지 않습니다.
+ * - 총 개수는 AdminCountMode에 따라 정확/캐시/EXPLAIN 추정/생략 중에서 계산합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdminQueryExecutor {
+    private static final String COUNT_CACHE_PREFIX = "admin:count:";
+
+    private final DSLContext dslContext;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AdminQueryProperties properties;
+
+    public <T> AdminPage<T> fetchPage(AdminQuery<T> query, AdminPageRequest paging, Pageable pageable) {
+        AdminPageRequest request = paging != null ? paging : AdminPageRequest.defaults();
+        AdminCountMode countMode = request.countMode() != null ? request.countMode() : properties.defaultCountMode();
+
+        Condition condition = query.condition();
+        if (request.cursor() != null) {
+            condition = condition.and(query.descending() ? query.key().lt(request.cursor()) : query.key().gt(request.cursor()));
+        }
+
+        // 다음 페이지 여부를 알기 위해 한 행 더 조회
+        Result<Record> rows = dslContext
+                .select(query.fields())
+                .from(query.table())
+                .where(condition)
+                .orderBy(query.descending() ? query.key().desc() : query.key().asc())
+                .offset(request.cursor() != null ? 0 : pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<Record> page = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        List<T> content = page.stream().map(row -> row.into(query.type())).toList();
+        Long nextCursor = hasNext ? page.getLast().get(query.key()) : null;
+
+        // 현재까지 확인된 최소 개수 (추정치가 이보다 작으면 페이지 이동이 깨지므로 보정)
+        long seen = pageable.getOffset() + content.size() + (hasNext ? 1 : 0);
+        long total = switch (countMode) {
+            case EXACT -> count(query);
+            case CACHED -> cachedCount(query);
+            case ESTIMATED -> Math.max(estimatedCount(query), seen);
+            case NONE -> seen;
+        };
+
+        return new AdminPage<>(content, pageable, total, nextCursor, countMode);
+    }
+
+    /**
+     * 검색 조건에 맞는 모든 행을 key 순서로 읽는 커서를 엽니다.
+     * MySQL 드라이버가 결과를 한 번에 메모리에 올리지 않고 행 단위로 스트리밍하도록 fetchSize를 Integer.MIN_VALUE로 지정합니다.
+     * 커서를 닫을 때까지 커넥션을 점유하므로 반드시 try-with-resources로 사용합니다.
+     */
+    public Cursor<Record> openCursor(AdminQuery<?> query) {
+        return dslContext
+                .select(query.fields())
+                .from(query.table())
+                .where(query.condition())
+                .orderBy(query.descending() ? query.key().desc() : query.key().asc())
+                .fetchSize(Integer.MIN_VALUE)
+                .fetchLazy();
+    }
+
+    private long count(AdminQuery<?> query) {
+        Long total = dslContext
+                .selectCount()
+                .from(query.table())
+                .where(query.condition())
+                .fetchOne(0, Long.class);
+        return total != null ? total : 0L;
+    }
+
+    /**
+     * 같은 테이블 + 같은 검색 조건의 COUNT 결과를 TTL 동안 재사용합니다.
+     */
+    private long cachedCount(AdminQuery<?> query) {
+        String sql = dslContext.renderInlined(query.condition());
+        String key = COUNT_CACHE_PREFIX + query.table().getName() + ":"
+                + DigestUtils.md5DigestAsHex(sql.getBytes(StandardCharsets.UTF_8));
+
+        String cached = stringRedisTemplate.opsForValue().get(key);
+        if (cached != null) {
+            return Long.parseLong(cached);
+        }
+
+        long total = count(query);
+        stringRedisTemplate.opsForValue().set(key, String.valueOf(total), properties.countCacheTtl());
+        return total;
+    }
+
+    /**
+     * 옵티마이저의 예상 행 수를 사용합니다. (EXPLAIN은 행을 읽지 않음)
+     */
+    private long estimatedCount(AdminQuery<?> query) {
+        try {
+            return (long) dslContext.explain(
+                    dslContext.selectOne().from(query.table()).where(query.condition())
+            ).rows();
+        } catch (Exception e) {
+            log.warn("예상 행 수 조회 실패, 정확한 COUNT로 대체: {}", e.getMessage());
+            return count(query);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.api.common.utils;
+
+import org.springframework.data.redis.listener.ChannelTopic;
+
+public class ChatChannelUtil {
+    private static final String ROOM_CHANNEL_PREFIX = "chat:room:";
+
+    /**
+     * MySQL 영속화 대기 메시지를 담는 write-behind 스트림 키
+     */
+    public static final String PERSIST_STREAM_KEY = "chat:persist";
+
+    /**
+     * 디코딩할 수 없거나 재시도 한도를 넘긴 chat:persist 레코드를 보관하는 dead-letter 스트림 키
+     */
+    public static final String PERSIST_DLQ_STREAM_KEY = "chat:persist:dlq";
+
+    /**
+     * 방 입장/퇴장 이벤트를 MySQL(room_user)에 반영하기 위한 스트림 키
+     */
+    public static final String ROOM_EVENTS_STREAM_KEY = "room:events";
+
+    /**
+     * room:events 레코드에서 ChatMessageCodec 프레임을 담는 필드명
+     */
+    public static final String STREAM_FRAME_FIELD = "frame";
+
+    /**
+     * 재시도 한도를 넘긴 room:events 레코드를 보관하는 dead-letter 스트림 키
+     */
+    public static final String ROOM_EVENTS_DLQ_STREAM_KEY = "room:events:dlq";
+
+    /**
+     * 방별 Redis Pub/Sub 채널 토픽을 반환합니다. (chat:room:{roomId})
+     */
+    public static ChannelTopic roomTopic(String roomId) {
+        return new ChannelTopic(ROOM_CHANNEL_PREFIX + roomId);
+    }
+}
@@ -31,6 +31,27 @@ public class SocketSessionUtil {
         throw new SocketRoomIDException("roomId parameter is missing in WebSocket URI");
     }
 
+    /**
+     * 재접속 시 클라이언트가 마지막으로 받은 시퀀스(resumeFrom)를 리턴. 없거나 숫자가 아니면 null.
+     */
+    public static Long getResumeFromHandshake(WebSocketSession session) {
+        URI uri = session.getUri();
+        if (uri == null || uri.getQuery() == null) {
+            return null;
+        }
+        for (String param : uri.getQuery().split("&")) {
+            String[] kv = param.split("=", 2);
+            if (kv.length == 2 && "resumeFrom".equals(kv[0])) {
+                try {
+                    return Long.parseLong(kv[1]);
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
     public static CustomUserDetails getUserDetailsFromSession(WebSocketSession session) {
         Principal principal = session.getPrincipal();
         if (principal instanceof CustomUserDetails userDetails) {
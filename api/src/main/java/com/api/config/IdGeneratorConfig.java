@@ -0,0 +1,25 @@
+package com.api.config;
+
+import com.api.common.id.IdGenerator;
+import com.api.common.id.RedisWorkerIdAllocator;
+import com.api.common.id.SnowflakeIdGenerator;
+import com.api.common.id.TimeOrderedIdentifierGenerator;
+import com.api.config.properties.IdGeneratorProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    /**
+     * 시간 정렬 64비트 ID 생성기 Bean (워커 ID는 Redis 임대로 조율)
+     * 다른 구현으로 교체하려면 IdGenerator 빈을 재정의합니다.
+     * @return IdGenerator
+     */
+    @Bean
+    public IdGenerator idGenerator(RedisWorkerIdAllocator workerIdAllocator, IdGeneratorProperties properties) {
+        IdGenerator generator = new SnowflakeIdGenerator(properties.epoch(), workerIdAllocator::getWorkerId);
+        TimeOrderedIdentifierGenerator.install(generator);
+        return generator;
+    }
+}
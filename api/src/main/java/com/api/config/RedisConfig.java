@@ -1,38 +1,37 @@
 package com.api.config;
 
-import com.api.domain.chat.model.ChatMessage;
+import com.api.config.properties.RoomEventProperties;
 import com.api.domain.chat.redis.service.RedisSubscriber;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.connection.stream.ObjectRecord;
+import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.data.redis.core.script.RedisScript;
-import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
 
-import java.time.Duration;
 
 @Configuration
 public class RedisConfig {
 
+    /**
+     * chat.broker.mode=PUBSUB(PubSubChatBroker)에서 사용하는 Pub/Sub 리스너 컨테이너.
+     * 방별 채널(chat:room:{roomId}) 구독은 RoomChannelSubscriptionManager가
+     * 해당 노드에 세션이 존재하는 방에 대해서만 동적으로 추가/해제합니다.
+     * STREAM 모드에서는 StreamChatBroker가 방별 로그 스트림(room:{roomId}:log)을 직접 XREAD하므로 채팅 수신에 쓰이지 않습니다.
+     */
     @Bean
-    public ChannelTopic topic() {
-        return new ChannelTopic("chat");
-    }
-
-    @Bean
-    public RedisMessageListenerContainer redisContainer(RedisConnectionFactory connectionFactory, MessageListenerAdapter listenerAdapter, ChannelTopic topic) {
+    public RedisMessageListenerContainer redisContainer(RedisConnectionFactory connectionFactory) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
-        container.addMessageListener(listenerAdapter, topic);
         return container;
     }
 
@@ -41,12 +40,17 @@ public class RedisConfig {
         return new MessageListenerAdapter(subscriber, "onMessage");
     }
 
+    /**
+     * 채팅 Pub/Sub 발행 및 히스토리 적재용 바이트 템플릿.
+     * ChatMessageCodec으로 한 번 인코딩한 프레임을 추가 직렬화 없이 그대로 전송/저장합니다.
+     */
     @Bean
-    public RedisTemplate<String, ChatMessage> redisTemplate(RedisConnectionFactory cf) {
-        RedisTemplate<String, ChatMessage> template = new RedisTemplate<>();
+    public RedisTemplate<String, byte[]> chatPubSubTemplate(RedisConnectionFactory cf) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
         template.setConnectionFactory(cf);
         template.setKeySerializer(new StringRedisSerializer());
-        template.setValueSerializer(new Jackson2JsonRedisSerializer<>(ChatMessage.class));
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setEnableTransactionSupport(false);
         return template;
     }
 
@@ -82,6 +86,90 @@ public class RedisConfig {
                     + "  return -1\n"
                     + "end";
 
+    // Lua script: 방 시퀀스 INCR → 프레임 맨 앞에 seq 삽입 → PUBLISH + LPUSH + LTRIM + 영속화 스트림 XADD를 한 번의 왕복으로 원자 실행
+    // KEYS[1]=chat_seq:{roomId}, KEYS[2]=chat:room:{roomId}, KEYS[3]=chat_history:{roomId}, KEYS[4]=chat:persist
+    // ARGV[1]=seq 없이 인코딩된 JSON 객체, ARGV[2]=히스토리 윈도우 크기
+    private static final String PUBLISH_LUA_SCRIPT =
+            "local seq = redis.call('INCR', KEYS[1])\n"
+                    + "local frame = '{\"seq\":' .. seq .. ',' .. string.sub(ARGV[1], 2)\n"
+                    + "redis.call('PUBLISH', KEYS[2], frame)\n"
+                    + "redis.call('LPUSH', KEYS[3], frame)\n"
+                    + "redis.call('LTRIM', KEYS[3], 0, tonumber(ARGV[2]) - 1)\n"
+                    + "redis.call('XADD', KEYS[4], '*', 'frame', frame)\n"
+                    + "return seq";
+
+    /**
+     * RedisScript<Long> 빈 등록: 채팅 발행 Lua 스크립트 실행용
+     */
+    @Bean
+    public RedisScript<Long> chatPublishScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptText(PUBLISH_LUA_SCRIPT);
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    // Lua script: STREAM 모드 발행. 방 시퀀스 INCR → 프레임 맨 앞에 seq 삽입 → XADD MAXLEN ~ N + 영속화 스트림 XADD
+    // KEYS[1]=chat_seq:{roomId}, KEYS[2]=room:{roomId}:log, KEYS[3]=chat:persist
+    // ARGV[1]=seq 없이 인코딩된 JSON 객체, ARGV[2]=스트림 보관 길이
+    private static final String STREAM_PUBLISH_LUA_SCRIPT =
+            "local seq = redis.call('INCR', KEYS[1])\n"
+                    + "local frame = '{\"seq\":' .. seq .. ',' .. string.sub(ARGV[1], 2)\n"
+                    + "redis.call('XADD', KEYS[2], 'MAXLEN', '~', ARGV[2], '*', 'frame', frame)\n"
+                    + "redis.call('XADD', KEYS[3], '*', 'frame', frame)\n"
+                    + "return seq";
+
+    /**
+     * RedisScript<Long> 빈 등록: STREAM 모드 채팅 발행 Lua 스크립트 실행용
+     */
+    @Bean
+    public RedisScript<Long> chatStreamPublishScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptText(STREAM_PUBLISH_LUA_SCRIPT);
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    // Lua script: ID 생성기 워커 ID 임대 갱신. 자신이 소유한 임대일 때만 만료 시간을 연장
+    // KEYS[1]=id:worker:{workerId}, ARGV[1]=인스턴스 ID, ARGV[2]=임대 시간(ms)
+    private static final String WORKER_LEASE_RENEW_LUA_SCRIPT =
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then\n"
+                    + "  return redis.call('PEXPIRE', KEYS[1], ARGV[2])\n"
+                    + "else\n"
+                    + "  return 0\n"
+                    + "end";
+
+    /**
+     * RedisScript<Long> 빈 등록: 워커 ID 임대 갱신 Lua 스크립트 실행용
+     */
+    @Bean
+    public RedisScript<Long> workerLeaseRenewScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptText(WORKER_LEASE_RENEW_LUA_SCRIPT);
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    // Lua script: 분산 락 해제. 자신이 잡은 락(값이 토큰과 같을 때)만 삭제
+    // KEYS[1]=락 키, ARGV[1]=락 토큰
+    private static final String LOCK_RELEASE_LUA_SCRIPT =
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then\n"
+                    + "  return redis.call('DEL', KEYS[1])\n"
+                    + "else\n"
+                    + "  return 0\n"
+                    + "end";
+
+    /**
+     * RedisScript<Long> 빈 등록: 분산 락 해제 Lua 스크립트 실행용
+     */
+    @Bean
+    public RedisScript<Long> lockReleaseScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptText(LOCK_RELEASE_LUA_SCRIPT);
+        script.setResultType(Long.class);
+        return script;
+    }
+
     /**
      * RedisScript<Long> 빈 등록: Lua 스크립트 실행용
      */
@@ -103,17 +191,22 @@ public class RedisConfig {
     }
 
     /**
-     * Redis Streams 컨슈머를 사용하려면 StreamMessageListenerContainer 빈 추가.
+     * 방 이벤트(room:events) 스트림 컨슈머 컨테이너.
+     * 구독마다 전용 스레드에서 XREADGROUP BLOCK을 반복하므로, 이벤트가 도착하는 즉시 처리됩니다.
+     * 구독 등록과 시작/종료는 RoomEventConsumer가 담당합니다.
      */
     @Bean
-    public StreamMessageListenerContainer<String, ObjectRecord<String, ChatMessage>> streamListenerContainer(RedisConnectionFactory cf) {
-        StreamMessageListenerContainerOptions<String, ObjectRecord<String, ChatMessage>> opts =
+    public StreamMessageListenerContainer<String, MapRecord<String, String, String>> roomEventListenerContainer(
+            RedisConnectionFactory cf,
+            RoomEventProperties properties
+    ) {
+        StreamMessageListenerContainerOptions<String, MapRecord<String, String, String>> opts =
                 StreamMessageListenerContainerOptions.builder()
-                        .pollTimeout(Duration.ofSeconds(1))
-                        .targetType(ChatMessage.class) // ObjectRecord<String, ChatMessage>
+                        .pollTimeout(properties.pollTimeout())
+                        .batchSize(properties.batchSize())
+                        .executor(new SimpleAsyncTaskExecutor("RoomEvent-"))
                         .build();
 
-        // 3) 컨테이너 생성
         return StreamMessageListenerContainer.create(cf, opts);
     }
 
@@ -1,10 +1,14 @@
 package com.api.config;
 
 import com.api.domain.chat.websocket.handler.ChatWebSocketHandler;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.socket.config.annotation.*;
 import org.springframework.web.socket.server.support.HttpSessionHandshakeInterceptor;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 @Configuration
 @EnableWebSocket
 public class WebSocketConfig implements WebSocketConfigurer {
@@ -22,4 +26,13 @@ public class WebSocketConfig implements WebSocketConfigurer {
                 .addInterceptors(new HttpSessionHandshakeInterceptor())
                 .setAllowedOriginPatterns("http://localhost:3000");           // CORS 허용
     }
-}
\ No newline at end of file
+
+    /**
+     * 대형 방 브로드캐스트 fan-out용 가상 스레드 Executor Bean
+     * @return ExecutorService
+     */
+    @Bean(name = "chatFanOutExecutor", destroyMethod = "shutdown")
+    public ExecutorService chatFanOutExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ChatFanOut-", 0).factory());
+    }
+}
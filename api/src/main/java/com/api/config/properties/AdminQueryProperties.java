@@ -0,0 +1,19 @@
+package com.api.config.properties;
+
+import com.api.common.query.AdminCountMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 관리자 목록 조회 설정
+ * @param defaultCountMode 요청에 countMode가 없을 때 사용할 총 개수 계산 방식
+ * @param countCacheTtl CACHED 모드에서 COUNT 결과를 Redis에 보관할 시간
+ */
+@ConfigurationProperties(prefix = "admin.query")
+public record AdminQueryProperties(
+        @DefaultValue("CACHED") AdminCountMode defaultCountMode,
+        @DefaultValue("30s") Duration countCacheTtl
+) {
+}
@@ -0,0 +1,23 @@
+package com.api.config.properties;
+
+import com.api.domain.chat.broker.ChatBrokerMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 채팅 브로커 설정
+ * @param mode 메시지 전달 방식 (PUBSUB / STREAM)
+ * @param streamMaxLen STREAM 모드에서 방별 로그 스트림 보관 길이 (XADD MAXLEN ~ N)
+ * @param streamPollTimeout STREAM 모드에서 XREAD 블로킹 대기 시간 (새로 호스팅한 방은 최대 이 시간 뒤부터 읽기 시작)
+ * @param streamReaders STREAM 모드에서 방 로그 스트림을 읽는 블로킹 XREAD 수 (노드당 전용 Redis 연결 수와 같음, 방들은 리더에 나뉘어 한 XREAD로 함께 읽힘)
+ */
+@ConfigurationProperties(prefix = "chat.broker")
+public record ChatBrokerProperties(
+        @DefaultValue("PUBSUB") ChatBrokerMode mode,
+        @DefaultValue("1000") int streamMaxLen,
+        @DefaultValue("1s") Duration streamPollTimeout,
+        @DefaultValue("4") int streamReaders
+) {
+}
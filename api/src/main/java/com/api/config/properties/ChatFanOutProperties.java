@@ -0,0 +1,16 @@
+package com.api.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 방 브로드캐스트 병렬 fan-out 설정
+ * @param parallelThreshold 방의 로컬 세션 수가 이 값을 넘으면 청크 단위로 병렬 전송
+ * @param chunkSize 가상 스레드 하나가 담당할 세션 수
+ */
+@ConfigurationProperties(prefix = "chat.fanout")
+public record ChatFanOutProperties(
+        @DefaultValue("500") int parallelThreshold,
+        @DefaultValue("250") int chunkSize
+) {
+}
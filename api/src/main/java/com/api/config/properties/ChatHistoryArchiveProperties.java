@@ -0,0 +1,21 @@
+package com.api.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * 채팅 히스토리 콜드 아카이브 설정
+ * @param enabled 보관 기간이 지난 파티션을 DROP 하기 전에 세그먼트 파일로 아카이브할지 여부
+ * @param directory 세그먼트 파일 루트 디렉터리 ({directory}/{roomId}/{yyyyMMdd}.seg|.idx)
+ *                  기록은 파티션 락을 잡은 노드에서만, 조회는 모든 노드에서 하므로 반드시 모든 노드가 공유하는 스토리지여야 함
+ * @param blockSize 압축 블록(희소 인덱스 항목) 하나에 담을 메시지 수
+ */
+@ConfigurationProperties(prefix = "chat.history.archive")
+public record ChatHistoryArchiveProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("./archive/history") Path directory,
+        @DefaultValue("256") int blockSize
+) {
+}
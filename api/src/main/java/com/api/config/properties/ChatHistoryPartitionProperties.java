@@ -0,0 +1,23 @@
+package com.api.config.properties;
+
+import com.api.domain.HistoryMessage.partition.HistoryPartitionUnit;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * history_message 파티션/보관 설정
+ * @param enabled 파티션 관리 사용 여부 (최초 활성화 시 기존 테이블을 ALTER TABLE ... PARTITION BY로 변환하므로 점검 시간에 켤 것)
+ * @param unit 파티션 단위 (MONTH / DAY)
+ * @param retention 보관 기간. 이 기간보다 오래된 파티션은 통째로 DROP
+ * @param premake 미리 만들어 둘 미래 파티션 수
+ */
+@ConfigurationProperties(prefix = "chat.history.partition")
+public record ChatHistoryPartitionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("MONTH") HistoryPartitionUnit unit,
+        @DefaultValue("365d") Duration retention,
+        @DefaultValue("3") int premake
+) {
+}
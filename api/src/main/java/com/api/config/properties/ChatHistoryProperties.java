@@ -0,0 +1,14 @@
+package com.api.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Redis 채팅 히스토리 설정
+ * @param windowSize 방별 Redis List(chat_history:{roomId})에 보관하고 입장 시 재생할 최근 메시지 수
+ */
+@ConfigurationProperties(prefix = "chat.history")
+public record ChatHistoryProperties(
+        @DefaultValue("100") int windowSize
+) {
+}
@@ -0,0 +1,23 @@
+package com.api.config.properties;
+
+import com.api.domain.HistoryMessage.search.HistorySearchEngine;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 채팅 히스토리 내용 검색 설정
+ * @param engine 검색 엔진 (LIKE: 기존 전체 스캔 / NGRAM: n-gram 역색인 / FULLTEXT: MySQL FULLTEXT ngram 파서)
+ * @param minimumShouldMatch 검색어 n-gram 중 이 비율 이상 일치해야 후보로 인정 (NGRAM 전용)
+ * @param maxCandidates 한 번의 검색에서 랭킹할 최대 후보 수 (페이지 총 개수의 상한)
+ * @param backfillBatchSize 기존 히스토리를 역색인에 채울 때 한 번에 읽을 행 수
+ * @param postingScanLimit n-gram 하나당 읽을 최신 포스팅 수 (NGRAM 전용, 흔한 n-gram도 이 개수만 읽으므로 검색 비용이 전체 행 수와 무관하게 제한됨)
+ */
+@ConfigurationProperties(prefix = "chat.history.search")
+public record ChatHistorySearchProperties(
+        @DefaultValue("NGRAM") HistorySearchEngine engine,
+        @DefaultValue("0.75") double minimumShouldMatch,
+        @DefaultValue("1000") int maxCandidates,
+        @DefaultValue("1000") int backfillBatchSize,
+        @DefaultValue("20000") int postingScanLimit
+) {
+}
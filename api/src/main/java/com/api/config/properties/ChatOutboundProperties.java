@@ -0,0 +1,21 @@
+package com.api.config.properties;
+
+import com.api.domain.chat.websocket.session.OutboundOverflowPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * WebSocket 세션별 송신 버퍼 설정
+ * @param sendTimeLimit 한 번의 전송이 이 시간을 넘기면 느린 클라이언트로 보고 연결을 끊음
+ * @param bufferSizeLimit 세션별 대기 버퍼 최대 크기(byte)
+ * @param overflowPolicy 버퍼 초과 시 처리 정책
+ */
+@ConfigurationProperties(prefix = "chat.outbound")
+public record ChatOutboundProperties(
+        @DefaultValue("5s") Duration sendTimeLimit,
+        @DefaultValue("524288") int bufferSizeLimit,
+        @DefaultValue("DROP_CHAT_KEEP_SYSTEM") OutboundOverflowPolicy overflowPolicy
+) {
+}
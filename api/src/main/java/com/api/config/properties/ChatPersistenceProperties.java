@@ -0,0 +1,26 @@
+package com.api.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 채팅 히스토리 write-behind 영속화 설정
+ * @param batchSize 한 번의 multi-row INSERT에 담을 최대 메시지 수
+ * @param flushInterval 배치가 차지 않아도 첫 메시지 이후 이 시간이 지나면 flush
+ * @param consumerName chat:persist 컨슈머 그룹에서 사용할 이 노드의 컨슈머 이름 (비어 있으면 호스트명, 재시작 후에도 같아야 미처리분을 이어받음)
+ * @param claimIdle 다른 컨슈머가 이 시간 이상 ACK하지 않은 엔트리는 가져와서 처리
+ * @param retryBackoff INSERT 실패 후 재시도까지 대기 시간
+ * @param maxDeliveries 저장에 실패한 엔트리의 전달 횟수가 이 값에 도달하면 재시도하지 않고 dead-letter 스트림으로 이동
+ */
+@ConfigurationProperties(prefix = "chat.persistence")
+public record ChatPersistenceProperties(
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("200ms") Duration flushInterval,
+        @DefaultValue("") String consumerName,
+        @DefaultValue("1m") Duration claimIdle,
+        @DefaultValue("1s") Duration retryBackoff,
+        @DefaultValue("5") int maxDeliveries
+) {
+}
@@ -0,0 +1,19 @@
+package com.api.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 시간 정렬 64비트 ID 생성기 설정
+ * @param epoch ID 타임스탬프의 기준 시각 (이후 약 69년간 사용 가능, 운영 중 변경 금지)
+ * @param workerLease Redis(id:worker:{n})에 잡아두는 워커 ID 임대 시간. 갱신은 id.generator.worker-renew-interval(기본 10s)마다 수행
+ */
+@ConfigurationProperties(prefix = "id.generator")
+public record IdGeneratorProperties(
+        @DefaultValue("2025-01-01T00:00:00Z") Instant epoch,
+        @DefaultValue("30s") Duration workerLease
+) {
+}
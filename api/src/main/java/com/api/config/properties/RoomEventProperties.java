@@ -0,0 +1,40 @@
+package com.api.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 방 이벤트(room:events) 스트림 컨슈머 설정
+ * @param batchSize XREADGROUP 한 번에 읽을 최대 레코드 수이자 한 트랜잭션으로 반영할 최대 레코드 수
+ * @param consumers 이 노드에서 같은 컨슈머 그룹으로 구독할 컨슈머 수 (읽기만 하므로 보통 1, DB 반영 처리량과는 무관)
+ * @param appliers 이 노드의 반영 스레드 수 (방 ID로 나눠 반영하므로 같은 방의 이벤트는 한 스레드가 처리)
+ * @param pollTimeout XREADGROUP BLOCK 시간 (이벤트가 도착하면 즉시 반환)
+ * @param linger 배치가 차지 않았을 때 같은 배치로 묶기 위해 추가로 기다리는 시간
+ * @param consumerName 컨슈머 이름 접두사 (비어 있으면 호스트명, 재시작 후에도 같아야 자신의 pending 엔트리를 이어받음)
+ * @param claimIdle 이 시간 이상 ACK되지 않은 pending 엔트리는 복구 작업이 가져와 다시 반영
+ * @param maxDeliveries 전달 횟수가 이 값에 도달한 엔트리는 재시도하지 않고 dead-letter 스트림으로 이동
+ * @param maxLen XADD MAXLEN ~ 안전 상한 (컨슈머가 오래 멈춘 경우에도 스트림이 무한히 커지지 않도록, retainCount보다 충분히 크게)
+ * @param retainCount 압축 작업이 남겨 두는 최신 엔트리 수 (모든 그룹이 ACK한 엔트리만 잘라냄)
+ * @param retainAge 압축 작업이 남겨 두는 보관 기간 (모든 그룹이 ACK한 엔트리만 잘라냄)
+ * @param deadLetterRetainAge dead-letter 스트림 보관 기간 (재처리/삭제되지 않은 채 이 기간이 지나면 정리)
+ * @param deadLetterMaxLen dead-letter 스트림 최대 길이 (대량 실패 시에도 메모리가 무한히 늘지 않도록)
+ */
+@ConfigurationProperties(prefix = "room.events")
+public record RoomEventProperties(
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("1") int consumers,
+        @DefaultValue("2") int appliers,
+        @DefaultValue("1s") Duration pollTimeout,
+        @DefaultValue("20ms") Duration linger,
+        @DefaultValue("") String consumerName,
+        @DefaultValue("1m") Duration claimIdle,
+        @DefaultValue("5") int maxDeliveries,
+        @DefaultValue("1000000") long maxLen,
+        @DefaultValue("10000") long retainCount,
+        @DefaultValue("1h") Duration retainAge,
+        @DefaultValue("7d") Duration deadLetterRetainAge,
+        @DefaultValue("10000") long deadLetterMaxLen
+) {
+}
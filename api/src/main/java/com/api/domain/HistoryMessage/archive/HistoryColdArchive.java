@@ -0,0 +1,158 @@
+package com.api.domain.HistoryMessage.archive;
+
+import com.api.config.properties.ChatHistoryArchiveProperties;
+import com.api.domain.HistoryMessage.repository.jooq.HistoryMessageDSLRepository;
+import com.api.domain.chat.model.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * MySQL 보관 기간이 지난 채팅 히스토리를 방별·일별 압축 세그먼트 파일로 보관하고 다시 읽어옵니다.
+ * 파티션을 DROP 하기 직전에 해당 파티션의 행을 (room_id, id) 순으로 읽어 세그먼트로 기록합니다.
+ * 기록은 파티션 락을 잡은 노드 한 곳에서만 일어나고 조회(findBefore)는 모든 노드에서 일어나므로,
+ * chat.history.archive.directory는 모든 노드가 같은 내용을 보는 공유 스토리지(NFS, EFS 등)여야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HistoryColdArchive {
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String INDEX_SUFFIX = ".idx";
+
+    private final HistoryMessageDSLRepository historyMessageDSLRepository;
+    private final ChatHistoryArchiveProperties properties;
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 파티션의 모든 행을 방별·일별 세그먼트로 기록합니다.
+     * 행을 (room_id, id) 순으로 스트리밍하며 블록이 찰 때마다 바로 세그먼트에 쓰므로, 메모리에는 블록 하나만 보관합니다.
+     * 같은 (방, 일) 세그먼트가 이미 있으면 교체하므로, DROP 전에 중단되어 다시 실행해도 안전합니다.
+     */
+    public void archivePartition(String partitionName) throws IOException {
+        int segments = 0;
+        HistorySegmentFile.Writer writer = null;
+        String currentRoom = null;
+        LocalDate currentDay = null;
+
+        try (Stream<ChatMessage> rows = historyMessageDSLRepository.streamPartition(partitionName)) {
+            Iterator<ChatMessage> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ChatMessage message = iterator.next();
+                LocalDate day = dayOf(message.getTimestamp());
+
+                if (writer == null || !message.getRoomId().equals(currentRoom) || !day.equals(currentDay)) {
+                    if (writer != null) {
+                        writer.commit();
+                        segments++;
+                    }
+                    currentRoom = message.getRoomId();
+                    currentDay = day;
+                    writer = openSegment(currentRoom, currentDay);
+                }
+                writer.append(message);
+            }
+
+            if (writer != null) {
+                writer.commit();
+                segments++;
+            }
+        } finally {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+        log.info("파티션 {}을 세그먼트 {}개로 아카이브했습니다.", partitionName, segments);
+    }
+
+    /**
+     * 방의 before보다 오래된 메시지를 아카이브에서 최신순으로 최대 limit개 읽습니다.
+     */
+    public List<ChatMessage> findBefore(String roomId, Long before, int limit) {
+        List<ChatMessage> result = new ArrayList<>(limit);
+        for (String day : daysDescending(roomId)) {
+            if (result.size() >= limit) {
+                break;
+            }
+            Path segment = roomDirectory(roomId).resolve(day + SEGMENT_SUFFIX);
+            Path index = roomDirectory(roomId).resolve(day + INDEX_SUFFIX);
+            try {
+                result.addAll(HistorySegmentFile.readBefore(segment, index, before, limit - result.size()));
+            } catch (IOException e) {
+                throw new UncheckedIOException("아카이브 세그먼트 읽기 실패: " + segment, e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 방의 하루치 아카이브를 오래된 순으로 읽습니다. (관리자 조회용)
+     */
+    public List<ChatMessage> readDay(String roomId, LocalDate day) {
+        Path segment = roomDirectory(roomId).resolve(day.format(DAY_FORMAT) + SEGMENT_SUFFIX);
+        if (!Files.exists(segment)) {
+            return List.of();
+        }
+        try {
+            return HistorySegmentFile.readAll(segment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 세그먼트 읽기 실패: " + segment, e);
+        }
+    }
+
+    private HistorySegmentFile.Writer openSegment(String roomId, LocalDate day) throws IOException {
+        Path directory = roomDirectory(roomId);
+        Files.createDirectories(directory);
+
+        String name = day.format(DAY_FORMAT);
+        return HistorySegmentFile.Writer.open(
+                directory.resolve(name + SEGMENT_SUFFIX),
+                directory.resolve(name + INDEX_SUFFIX),
+                properties.blockSize()
+        );
+    }
+
+    private List<String> daysDescending(String roomId) {
+        Path directory = roomDirectory(roomId);
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> name.substring(0, name.length() - SEGMENT_SUFFIX.length()))
+                    .sorted(Comparator.reverseOrder())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 디렉터리 조회 실패: " + directory, e);
+        }
+    }
+
+    private Path roomDirectory(String roomId) {
+        // 방 ID를 경로로 쓰므로 경로 구분자 등은 치환
+        return properties.directory().resolve(Objects.requireNonNull(roomId).replaceAll("[^A-Za-z0-9_-]", "_"));
+    }
+
+    private static LocalDate dayOf(Long timestamp) {
+        return LocalDate.ofInstant(Instant.ofEpochMilli(timestamp != null ? timestamp : 0L), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,238 @@
+package com.api.domain.HistoryMessage.archive;
+
+import com.api.domain.chat.model.ChatMessage;
+import com.api.domain.chat.model.ChatMessageCodec;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 방별·일별 콜드 아카이브 세그먼트 파일.
+ * - {day}.seg : 블록의 연속. 블록 = [원본 길이 int][압축 길이 int][Deflate 압축된 NDJSON(메시지 blockSize개)]
+ * - {day}.idx : 블록마다 [첫 메시지 ID long][첫 메시지 시각 long][블록 오프셋 long]의 희소 인덱스
+ * 읽기는 세그먼트를 메모리 매핑하고, 인덱스로 필요한 블록만 찾아 압축을 풉니다.
+ */
+final class HistorySegmentFile {
+    private static final int INDEX_ENTRY_BYTES = Long.BYTES * 3;
+    private static final int BLOCK_HEADER_BYTES = Integer.BYTES * 2;
+
+    private HistorySegmentFile() {
+    }
+
+    /**
+     * 메시지를 ID 오름차순으로 받아 블록이 찰 때마다 바로 기록하는 세그먼트 writer.
+     * 임시 파일에 쓴 뒤 commit에서 교체하므로 재실행해도 안전합니다.
+     * 메모리에는 블록 하나만 보관하므로 하루치 메시지 수와 무관하게 일정한 메모리로 기록합니다.
+     * commit 전에 닫히면 임시 파일을 지우고 기존 세그먼트는 그대로 둡니다.
+     */
+    static final class Writer implements AutoCloseable {
+        private final Path segment;
+        private final Path index;
+        private final Path segmentTmp;
+        private final Path indexTmp;
+        private final int blockSize;
+        private final OutputStream segmentOut;
+        private final DataOutputStream indexOut;
+        private final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        private final ByteArrayOutputStream raw = new ByteArrayOutputStream();
+
+        private ChatMessage blockFirst;
+        private int blockCount;
+        private long offset;
+        private boolean committed;
+
+        private Writer(Path segment, Path index, int blockSize) throws IOException {
+            this.segment = segment;
+            this.index = index;
+            this.segmentTmp = segment.resolveSibling(segment.getFileName() + ".tmp");
+            this.indexTmp = index.resolveSibling(index.getFileName() + ".tmp");
+            this.blockSize = blockSize;
+            this.segmentOut = new BufferedOutputStream(Files.newOutputStream(segmentTmp));
+            this.indexOut = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(indexTmp)));
+        }
+
+        static Writer open(Path segment, Path index, int blockSize) throws IOException {
+            return new Writer(segment, index, blockSize);
+        }
+
+        void append(ChatMessage message) throws IOException {
+            if (blockCount == 0) {
+                blockFirst = message;
+            }
+            raw.write(ChatMessageCodec.encode(message));
+            raw.write('\n');
+            if (++blockCount >= blockSize) {
+                flushBlock();
+            }
+        }
+
+        /**
+         * 남은 블록을 기록하고 임시 파일을 세그먼트로 교체합니다.
+         */
+        void commit() throws IOException {
+            flushBlock();
+            closeStreams();
+            Files.move(indexTmp, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            Files.move(segmentTmp, segment, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                closeStreams();
+                Files.deleteIfExists(segmentTmp);
+                Files.deleteIfExists(indexTmp);
+            }
+        }
+
+        private void flushBlock() throws IOException {
+            if (blockCount == 0) {
+                return;
+            }
+            byte[] compressed = deflate(deflater, raw.toByteArray());
+
+            ByteBuffer header = ByteBuffer.allocate(BLOCK_HEADER_BYTES).putInt(raw.size()).putInt(compressed.length);
+            segmentOut.write(header.array());
+            segmentOut.write(compressed);
+
+            indexOut.writeLong(blockFirst.getId());
+            indexOut.writeLong(blockFirst.getTimestamp() != null ? blockFirst.getTimestamp() : 0L);
+            indexOut.writeLong(offset);
+
+            offset += BLOCK_HEADER_BYTES + compressed.length;
+            raw.reset();
+            blockCount = 0;
+            blockFirst = null;
+        }
+
+        private void closeStreams() throws IOException {
+            try (segmentOut; indexOut) {
+                deflater.end();
+            }
+        }
+    }
+
+    /**
+     * before보다 작은 ID의 메시지를 최신순으로 최대 limit개 읽습니다. (before가 null이면 세그먼트 끝부터)
+     */
+    static List<ChatMessage> readBefore(Path segment, Path index, Long before, int limit) throws IOException {
+        ByteBuffer indexBuffer = ByteBuffer.wrap(Files.readAllBytes(index));
+        int blocks = indexBuffer.capacity() / INDEX_ENTRY_BYTES;
+
+        // before보다 작은 첫 ID를 가진 마지막 블록을 이분 탐색
+        int low = 0;
+        int high = blocks - 1;
+        int start = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long firstId = indexBuffer.getLong(mid * INDEX_ENTRY_BYTES);
+            if (before == null || firstId < before) {
+                start = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        List<ChatMessage> result = new ArrayList<>(limit);
+        if (start < 0) {
+            return result;
+        }
+
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            for (int block = start; block >= 0 && result.size() < limit; block--) {
+                long offset = indexBuffer.getLong(block * INDEX_ENTRY_BYTES + Long.BYTES * 2);
+                List<ChatMessage> messages = readBlock(mapped, (int) offset);
+                Collections.reverse(messages);
+
+                for (ChatMessage message : messages) {
+                    if (result.size() >= limit) {
+                        break;
+                    }
+                    if (before == null || message.getId() < before) {
+                        result.add(message);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 세그먼트의 모든 메시지를 오래된 순으로 읽습니다.
+     */
+    static List<ChatMessage> readAll(Path segment) throws IOException {
+        List<ChatMessage> result = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            int offset = 0;
+            while (offset < mapped.limit()) {
+                result.addAll(readBlock(mapped, offset));
+                offset += BLOCK_HEADER_BYTES + mapped.getInt(offset + Integer.BYTES);
+            }
+        }
+        return result;
+    }
+
+    private static List<ChatMessage> readBlock(MappedByteBuffer mapped, int offset) throws IOException {
+        int rawLength = mapped.getInt(offset);
+        int compressedLength = mapped.getInt(offset + Integer.BYTES);
+
+        ByteBuffer compressed = mapped.slice(offset + BLOCK_HEADER_BYTES, compressedLength);
+        byte[] raw = new byte[rawLength];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            inflater.inflate(raw);
+        } catch (DataFormatException e) {
+            throw new IOException("손상된 아카이브 블록 (offset=" + offset + ")", e);
+        } finally {
+            inflater.end();
+        }
+
+        List<ChatMessage> messages = new ArrayList<>();
+        int lineStart = 0;
+        for (int i = 0; i < raw.length; i++) {
+            if (raw[i] == '\n') {
+                messages.add(ChatMessageCodec.decode(Arrays.copyOfRange(raw, lineStart, i)));
+                lineStart = i + 1;
+            }
+        }
+        return messages;
+    }
+
+    private static byte[] deflate(Deflater deflater, byte[] raw) {
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+        byte[] chunk = new byte[8192];
+        while (!deflater.finished()) {
+            int n = deflater.deflate(chunk);
+            out.write(chunk, 0, n);
+        }
+        return out.toByteArray();
+    }
+}
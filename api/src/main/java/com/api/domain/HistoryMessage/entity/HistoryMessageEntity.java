@@ -1,6 +1,7 @@
 package com.api.domain.HistoryMessage.entity;
 
 import com.api.common.entity.BaseDateEntity;
+import com.api.common.id.TimeOrderedId;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,7 +9,12 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "history_message")
+@Table(name = "history_message", indexes = {
+        // 방별 "이전 메시지 불러오기" keyset 조회: WHERE room_id = ? AND id < ? ORDER BY id DESC
+        @Index(name = "idx_history_message_room_id", columnList = "room_id, id"),
+        // 관리자 보낸 사람 접두 검색: WHERE sender LIKE '?%' ORDER BY id DESC
+        @Index(name = "idx_history_message_sender", columnList = "sender, id")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -16,7 +22,7 @@ import lombok.NoArgsConstructor;
 public class HistoryMessageEntity extends BaseDateEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @Column(nullable = false)
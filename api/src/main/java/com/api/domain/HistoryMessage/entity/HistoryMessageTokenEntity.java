@@ -0,0 +1,42 @@
+package com.api.domain.HistoryMessage.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 채팅 히스토리 내용 검색용 n-gram 역색인.
+ * PK(gram, message_id)로 n-gram별 메시지 목록을 seek 하고, message_id 인덱스로 수정/삭제/보관 만료 시 정리합니다.
+ * 행은 jOOQ(HistoryMessageTokenDSLRepository)로만 기록하며, 이 엔티티는 스키마 정의용입니다.
+ */
+@Entity
+@Table(name = "history_message_token", indexes = {
+        @Index(name = "idx_history_message_token_message_id", columnList = "message_id")
+})
+@IdClass(HistoryMessageTokenEntity.Key.class)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class HistoryMessageTokenEntity {
+
+    @Id
+    @Column(length = 8, nullable = false)
+    private String gram;
+
+    @Id
+    @Column(name = "message_id", nullable = false)
+    private Long messageId;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private String gram;
+        private Long messageId;
+    }
+}
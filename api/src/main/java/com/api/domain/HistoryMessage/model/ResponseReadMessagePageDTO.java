@@ -0,0 +1,18 @@
+package com.api.domain.HistoryMessage.model;
+
+import com.api.domain.chat.model.ChatMessage;
+
+import java.util.List;
+
+/**
+ * "이전 메시지 불러오기" 응답
+ * @param messages 오래된 순으로 정렬된 메시지
+ * @param nextCursor 다음 요청의 before로 전달할 커서 (이번 페이지에서 가장 오래된 메시지 ID)
+ * @param hasNext 더 오래된 메시지가 남아 있는지 여부
+ */
+public record ResponseReadMessagePageDTO(
+        List<ChatMessage> messages,
+        Long nextCursor,
+        boolean hasNext
+) {
+}
@@ -2,6 +2,11 @@ package com.api.domain.HistoryMessage.model;
 
 import com.api.common.utils.DateUtil;
 import com.api.domain.HistoryMessage.entity.HistoryMessageEntity;
+import com.api.domain.chat.model.ChatMessage;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 public record SelectHistoryMessageForAdminDTO(
         Long id,
@@ -20,4 +25,15 @@ public record SelectHistoryMessageForAdminDTO(
                 DateUtil.dateTimeToString(entity.getCreateDate(), "yyyy-MM-dd")
         );
     }
+
+    // 아카이브 세그먼트에서 읽은 메시지용
+    public SelectHistoryMessageForAdminDTO(ChatMessage message) {
+        this(
+                message.getId(),
+                message.getRoomId(),
+                message.getSender(),
+                message.getContent(),
+                DateUtil.dateTimeToString(LocalDateTime.ofInstant(Instant.ofEpochMilli(message.getTimestamp()), ZoneId.systemDefault()), "yyyy-MM-dd HH:mm:ss")
+        );
+    }
 }
@@ -0,0 +1,172 @@
+package com.api.domain.HistoryMessage.partition;
+
+import com.api.common.id.IdGenerator;
+import com.api.config.properties.ChatHistoryPartitionProperties;
+import com.api.domain.HistoryMessage.archive.HistoryColdArchive;
+import com.api.domain.HistoryMessage.search.HistoryMessageSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * history_message를 시간 구간(MONTH/DAY)별 RANGE 파티션으로 관리합니다.
+ * 파티션 키는 시간 정렬 ID(id)입니다. PK가 id 하나라 create_date로는 파티션할 수 없기 때문이며,
+ * 구간 경계는 IdGenerator.minIdAt(구간 시작)으로 계산합니다.
+ * - 미래 파티션을 premake개만큼 미리 만들어 두고 (p_future를 REORGANIZE)
+ * - 보관 기간이 지난 파티션은 행 단위 DELETE 대신 DROP PARTITION으로 제거합니다. (아카이브가 켜져 있으면 먼저 세그먼트로 보관)
+ * IDENTITY 시절 행은 p_legacy 파티션에 남습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "chat.history.partition", name = "enabled", havingValue = "true")
+public class HistoryPartitionManager {
+    private static final String TABLE = "history_message";
+    private static final String LEGACY_PARTITION = "p_legacy";
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final String LOCK_KEY = "lock:history_message:partition";
+
+    private final DSLContext dslContext;
+    private final IdGenerator idGenerator;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatHistoryPartitionProperties properties;
+    private final HistoryColdArchive historyColdArchive;
+    private final HistoryMessageSearchIndex historyMessageSearchIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        maintain();
+    }
+
+    /**
+     * 파티션 변환/미래 파티션 생성/만료 파티션 제거를 수행합니다.
+     * 여러 노드가 동시에 DDL을 실행하지 않도록 Redis 락을 잡은 노드만 수행합니다.
+     */
+    @Scheduled(cron = "${chat.history.partition.cron:0 10 0 * * *}")
+    public void maintain() {
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", Duration.ofMinutes(30));
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        try {
+            LocalDate current = properties.unit().truncate(LocalDate.now());
+            List<String> partitions = partitionNames();
+
+            if (partitions.isEmpty()) {
+                partitionTable(current);
+            } else {
+                premake(partitions, current);
+            }
+            dropExpired();
+        } catch (Exception e) {
+            // 스케줄러는 에러 발생 시 스레드가 멈추기 때문에 예외 처리 필요
+            log.error("history_message 파티션 관리 실패: {}", e.getMessage(), e);
+        } finally {
+            stringRedisTemplate.delete(LOCK_KEY);
+        }
+    }
+
+    /**
+     * 파티션되지 않은 테이블을 RANGE(id) 파티션으로 변환합니다.
+     * 보관 기간 시작 구간부터 미래 premake 구간까지 만들고, 그 이전 행은 p_legacy로 모읍니다.
+     */
+    private void partitionTable(LocalDate current) {
+        LocalDate first = properties.unit().truncate(LocalDate.now().minusDays(properties.retention().toDays()));
+
+        StringJoiner definitions = new StringJoiner(", ");
+        definitions.add(definition(LEGACY_PARTITION, boundOf(first)));
+        for (LocalDate start = first; !start.isAfter(properties.unit().plus(current, properties.premake())); start = properties.unit().plus(start, 1)) {
+            definitions.add(definition(properties.unit().partitionName(start), boundOf(properties.unit().plus(start, 1))));
+        }
+        definitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN MAXVALUE");
+
+        log.info("history_message를 {} 단위 파티션 테이블로 변환합니다.", properties.unit());
+        dslContext.execute("ALTER TABLE " + TABLE + " PARTITION BY RANGE (id) (" + definitions + ")");
+    }
+
+    /**
+     * 마지막 구간 파티션 이후로 현재 + premake 구간까지 p_future를 나눠 파티션을 추가합니다.
+     */
+    private void premake(List<String> partitions, LocalDate current) {
+        LocalDate target = properties.unit().plus(current, properties.premake());
+
+        LocalDate next = partitions.stream()
+                .filter(this::isPeriodPartition)
+                .map(name -> properties.unit().plus(properties.unit().parse(name.substring(1)), 1))
+                .max(LocalDate::compareTo)
+                .orElse(current);
+
+        List<String> definitions = new ArrayList<>();
+        for (LocalDate start = next; !start.isAfter(target); start = properties.unit().plus(start, 1)) {
+            definitions.add(definition(properties.unit().partitionName(start), boundOf(properties.unit().plus(start, 1))));
+        }
+        if (definitions.isEmpty()) {
+            return;
+        }
+
+        definitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN MAXVALUE");
+        dslContext.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + FUTURE_PARTITION
+                + " INTO (" + String.join(", ", definitions) + ")");
+        log.info("history_message 파티션 {}개 추가", definitions.size() - 1);
+    }
+
+    /**
+     * 구간 끝이 보관 기간 시작 이전인 파티션을 DROP 합니다.
+     */
+    private void dropExpired() throws IOException {
+        LocalDate cutoff = LocalDate.now().minusDays(properties.retention().toDays());
+
+        for (String name : partitionNames()) {
+            if (!isPeriodPartition(name)) {
+                continue;
+            }
+            LocalDate start = properties.unit().parse(name.substring(1));
+            LocalDate end = properties.unit().plus(start, 1);
+            if (!end.isAfter(cutoff)) {
+                // 아카이브에 실패하면 예외로 중단되어 DROP 하지 않음
+                if (historyColdArchive.isEnabled()) {
+                    historyColdArchive.archivePartition(name);
+                }
+                dslContext.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + name);
+                log.info("보관 기간이 지난 history_message 파티션 {} 제거", name);
+
+                historyMessageSearchIndex.purge(boundOf(start), boundOf(end));
+            }
+        }
+    }
+
+    private List<String> partitionNames() {
+        return dslContext.fetch(
+                        "SELECT PARTITION_NAME FROM information_schema.PARTITIONS"
+                                + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL"
+                                + " ORDER BY PARTITION_ORDINAL_POSITION", TABLE)
+                .map(record -> record.get(0, String.class));
+    }
+
+    private boolean isPeriodPartition(String name) {
+        return !LEGACY_PARTITION.equals(name) && !FUTURE_PARTITION.equals(name);
+    }
+
+    private long boundOf(LocalDate start) {
+        return idGenerator.minIdAt(start.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static String definition(String name, long lessThan) {
+        return "PARTITION " + name + " VALUES LESS THAN (" + lessThan + ")";
+    }
+}
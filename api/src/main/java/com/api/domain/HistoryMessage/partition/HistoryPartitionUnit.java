@@ -0,0 +1,61 @@
+package com.api.domain.HistoryMessage.partition;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * history_message 파티션 단위. 파티션 이름은 구간 시작일로 정합니다. (p202501 / p20250115)
+ */
+public enum HistoryPartitionUnit {
+    MONTH(DateTimeFormatter.ofPattern("yyyyMM")) {
+        @Override
+        public LocalDate truncate(LocalDate date) {
+            return date.withDayOfMonth(1);
+        }
+
+        @Override
+        public LocalDate plus(LocalDate start, long amount) {
+            return start.plusMonths(amount);
+        }
+
+        @Override
+        public LocalDate parse(String suffix) {
+            return LocalDate.parse(suffix + "01", DateTimeFormatter.BASIC_ISO_DATE);
+        }
+    },
+    DAY(DateTimeFormatter.BASIC_ISO_DATE) {
+        @Override
+        public LocalDate truncate(LocalDate date) {
+            return date;
+        }
+
+        @Override
+        public LocalDate plus(LocalDate start, long amount) {
+            return start.plusDays(amount);
+        }
+
+        @Override
+        public LocalDate parse(String suffix) {
+            return LocalDate.parse(suffix, DateTimeFormatter.BASIC_ISO_DATE);
+        }
+    };
+
+    private final DateTimeFormatter formatter;
+
+    HistoryPartitionUnit(DateTimeFormatter formatter) {
+        this.formatter = formatter;
+    }
+
+    public abstract LocalDate truncate(LocalDate date);
+
+    public abstract LocalDate plus(LocalDate start, long amount);
+
+    /**
+     * 파티션 이름에서 "p"를 뺀 부분을 구간 시작일로 변환합니다.
+     */
+    public abstract LocalDate parse(String suffix);
+
+    public String partitionName(LocalDate start) {
+        return "p" + start.format(formatter);
+    }
+}
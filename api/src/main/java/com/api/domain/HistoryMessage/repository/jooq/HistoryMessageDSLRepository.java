@@ -1,59 +1,261 @@
 package com.api.domain.HistoryMessage.repository.jooq;
 
+import com.api.common.id.IdGenerator;
+import com.api.common.id.SnowflakeIdGenerator;
+import com.api.common.query.AdminPageRequest;
+import com.api.common.query.AdminQuery;
+import com.api.common.query.AdminQueryExecutor;
 import com.api.common.utils.DateUtil;
 import com.api.domain.HistoryMessage.model.SearchHistoryMessageRequest;
 import com.api.domain.HistoryMessage.model.SelectHistoryMessageForAdminDTO;
+import com.api.domain.chat.model.ChatMessage;
+import com.api.jooq.tables.records.HistoryMessageRecord;
 import lombok.RequiredArgsConstructor;
 import org.jooq.Condition;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertValuesStep6;
+import org.jooq.Record;
 import org.jooq.impl.DSL;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 import static com.api.jooq.tables.HistoryMessage.HISTORY_MESSAGE;
 
 @Repository
 @RequiredArgsConstructor
 public class HistoryMessageDSLRepository {
+    private static final char LIKE_ESCAPE = '!';
+    private static final List<Field<?>> ADMIN_FIELDS = List.of(
+            HISTORY_MESSAGE.ID, HISTORY_MESSAGE.ROOM_ID, HISTORY_MESSAGE.SENDER, HISTORY_MESSAGE.CONTENT, HISTORY_MESSAGE.CREATE_DATE);
+
     private final DSLContext dslContext;
+    private final IdGenerator idGenerator;
+    private final AdminQueryExecutor adminQueryExecutor;
+
+    /**
+     * 채팅 메시지들을 하나의 multi-row INSERT로 저장합니다.
+     * ID와 작성 시각은 발행 시 부여한 값을 사용하므로, 같은 메시지가 다시 저장되면 중복 키로 무시됩니다.
+     * ID가 없는 메시지는 여기서 발급해 메시지에 기록합니다. (검색 색인이 같은 ID를 쓰도록)
+     */
+    public int insertAll(List<ChatMessage> messages) {
+        InsertValuesStep6<HistoryMessageRecord, Long, String, String, String, LocalDateTime, LocalDateTime> insert = dslContext
+                .insertInto(HISTORY_MESSAGE,
+                        HISTORY_MESSAGE.ID,
+                        HISTORY_MESSAGE.ROOM_ID,
+                        HISTORY_MESSAGE.SENDER,
+                        HISTORY_MESSAGE.CONTENT,
+                        HISTORY_MESSAGE.CREATE_DATE,
+                        HISTORY_MESSAGE.MODIFIED_DATE);
+
+        for (ChatMessage message : messages) {
+            LocalDateTime createdAt = message.getTimestamp() != null
+                    ? LocalDateTime.ofInstant(Instant.ofEpochMilli(message.getTimestamp()), ZoneId.systemDefault())
+                    : LocalDateTime.now();
+            if (message.getId() == null) {
+                message.assignId(idGenerator.nextId());
+            }
+            insert = insert.values(message.getId(), message.getRoomId(), message.getSender(), message.getContent(), createdAt, createdAt);
+        }
+
+        return insert.onDuplicateKeyIgnore().execute();
+    }
+
+    /**
+     * 방의 before보다 오래된 메시지를 (room_id, id) 인덱스 seek으로 최신순 limit개 조회합니다.
+     * OFFSET 없이 커서 이후만 읽으므로 얼마나 과거로 스크롤하든 limit개만 읽습니다.
+     */
+    public List<ChatMessage> findByRoomIdBefore(String roomId, Long before, int limit) {
+        Condition condition = HISTORY_MESSAGE.ROOM_ID.eq(roomId);
+        if (before != null) {
+            condition = condition.and(HISTORY_MESSAGE.ID.lt(before));
+        }
+
+        return dslContext
+                .select(HISTORY_MESSAGE.ID, HISTORY_MESSAGE.SENDER, HISTORY_MESSAGE.CONTENT, HISTORY_MESSAGE.CREATE_DATE)
+                .from(HISTORY_MESSAGE)
+                .where(condition)
+                .orderBy(HISTORY_MESSAGE.ID.desc())
+                .limit(limit)
+                .fetch(record -> {
+                    ChatMessage message = new ChatMessage(
+                            ChatMessage.MessageType.CHAT,
+                            record.get(HISTORY_MESSAGE.SENDER),
+                            record.get(HISTORY_MESSAGE.CONTENT),
+                            roomId
+                    );
+                    message.assignId(record.get(HISTORY_MESSAGE.ID));
+                    message.assignTimestamp(record.get(HISTORY_MESSAGE.CREATE_DATE)
+                            .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+                    return message;
+                });
+    }
+
+    /**
+     * 파티션 하나의 행을 (room_id, id) 순으로 스트리밍합니다. (아카이브용, 사용 후 반드시 close)
+     * MySQL Connector/J는 useCursorFetch 없이는 양수 fetchSize를 무시하고 결과 전체를 메모리에 올리므로,
+     * Integer.MIN_VALUE로 행 단위 스트리밍 모드를 사용합니다. (스트림이 열려 있는 동안 같은 연결로 다른 쿼리 불가)
+     */
+    public Stream<ChatMessage> streamPartition(String partitionName) {
+        return dslContext
+                .resultQuery("SELECT id, room_id, sender, content, create_date FROM history_message PARTITION ({0}) ORDER BY room_id, id",
+                        DSL.name(partitionName))
+                .fetchSize(Integer.MIN_VALUE)
+                .fetchStream()
+                .map(record -> {
+                    ChatMessage message = new ChatMessage(
+                            ChatMessage.MessageType.CHAT,
+                            record.get("sender", String.class),
+                            record.get("content", String.class),
+                            record.get("room_id", String.class)
+                    );
+                    message.assignId(record.get("id", Long.class));
+                    message.assignTimestamp(record.get("create_date", LocalDateTime.class)
+                            .atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+                    return message;
+                });
+    }
+
+    /**
+     * afterId 초과 untilId 미만 구간의 메시지를 ID 오름차순으로 limit개 조회합니다. (검색 색인 백필용)
+     */
+    public List<ChatMessage> findAllBetween(long afterId, long untilId, int limit) {
+        return dslContext
+                .select(HISTORY_MESSAGE.ID, HISTORY_MESSAGE.ROOM_ID, HISTORY_MESSAGE.SENDER, HISTORY_MESSAGE.CONTENT)
+                .from(HISTORY_MESSAGE)
+                .where(HISTORY_MESSAGE.ID.gt(afterId).and(HISTORY_MESSAGE.ID.lt(untilId)))
+                .orderBy(HISTORY_MESSAGE.ID.asc())
+                .limit(limit)
+                .fetch(record -> {
+                    ChatMessage message = new ChatMessage(
+                            ChatMessage.MessageType.CHAT,
+                            record.get(HISTORY_MESSAGE.SENDER),
+                            record.get(HISTORY_MESSAGE.CONTENT),
+                            record.get(HISTORY_MESSAGE.ROOM_ID)
+                    );
+                    message.assignId(record.get(HISTORY_MESSAGE.ID));
+                    return message;
+                });
+    }
+
+    /**
+     * 주어진 ID 순서를 유지한 채 관리자용 DTO로 조회합니다. (검색 랭킹 결과의 한 페이지 조회용)
+     * 이미 삭제되었거나 보관 기간이 지나 제거된 ID는 결과에서 빠집니다.
+     */
+    public List<SelectHistoryMessageForAdminDTO> findAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, SelectHistoryMessageForAdminDTO> rows = dslContext
+                .select(HISTORY_MESSAGE.ID, HISTORY_MESSAGE.ROOM_ID, HISTORY_MESSAGE.SENDER, HISTORY_MESSAGE.CONTENT, HISTORY_MESSAGE.CREATE_DATE)
+                .from(HISTORY_MESSAGE)
+                .where(HISTORY_MESSAGE.ID.in(ids))
+                .fetchMap(HISTORY_MESSAGE.ID, SelectHistoryMessageForAdminDTO.class);
 
-    public Page<SelectHistoryMessageForAdminDTO> findAllBySearchCondition(SearchHistoryMessageRequest search, Pageable pageable) {
+        return ids.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * MySQL FULLTEXT(ngram 파서) 관련도순으로 메시지 ID를 최대 limit개 조회합니다.
+     */
+    public List<Long> findRankedIdsByFullText(String text, int limit) {
+        Field<Double> score = DSL.field("MATCH({0}) AGAINST ({1} IN NATURAL LANGUAGE MODE)",
+                Double.class, HISTORY_MESSAGE.CONTENT, DSL.val(text));
+
+        return dslContext
+                .select(HISTORY_MESSAGE.ID)
+                .from(HISTORY_MESSAGE)
+                .where(score.gt(0.0))
+                .orderBy(score.desc(), HISTORY_MESSAGE.ID.desc())
+                .limit(limit)
+                .fetch(HISTORY_MESSAGE.ID);
+    }
+
+    public Page<SelectHistoryMessageForAdminDTO> findAllBySearchCondition(SearchHistoryMessageRequest search, AdminPageRequest paging, Pageable pageable) {
+        return adminQueryExecutor.fetchPage(searchQuery(search), paging, pageable);
+    }
+
+    /**
+     * 검색 조건에 맞는 행을 스트리밍 커서로 엽니다. (내보내기용, 사용 후 반드시 close)
+     */
+    public Cursor<Record> openExportCursor(SearchHistoryMessageRequest search) {
+        return adminQueryExecutor.openCursor(searchQuery(search));
+    }
+
+    /**
+     * 주어진 ID 순서(검색 랭킹)대로 행을 커서로 엽니다. (내용 검색 내보내기용, 사용 후 반드시 close)
+     */
+    public Cursor<Record> openExportCursorByIds(List<Long> ids) {
+        return dslContext
+                .select(ADMIN_FIELDS)
+                .from(HISTORY_MESSAGE)
+                .where(HISTORY_MESSAGE.ID.in(ids))
+                .orderBy(HISTORY_MESSAGE.ID.sortAsc(ids))
+                .fetchLazy();
+    }
+
+    private AdminQuery<SelectHistoryMessageForAdminDTO> searchQuery(SearchHistoryMessageRequest search) {
         Condition condition = switch (search.searchType()) {
-            case ROOM_ID -> HISTORY_MESSAGE.ROOM_ID.likeIgnoreCase("%" + search.searchText() + "%");
-            case SENDER -> HISTORY_MESSAGE.SENDER.likeIgnoreCase("%" + search.searchText() + "%");
+            // 방 ID는 정확히 일치해야 (room_id, id) 인덱스로 최신순 seek 가능
+            case ROOM_ID -> HISTORY_MESSAGE.ROOM_ID.eq(search.searchText());
+            // 보낸 사람은 접두 검색만 허용해 (sender, id) 인덱스 범위 스캔 (앞에 %가 붙으면 전체 스캔)
+            case SENDER -> HISTORY_MESSAGE.SENDER.like(prefixPattern(search.searchText()), LIKE_ESCAPE);
+            // 검색 색인이 처리하지 못하는 짧은 검색어만 이 경로로 옴 (ChatHistoryService에서 색인 후보로 분기)
             case CONTENT -> HISTORY_MESSAGE.CONTENT.likeIgnoreCase("%" + search.searchText() + "%");
-            case DATE -> HISTORY_MESSAGE.CREATE_DATE.between(
+            case DATE -> dateCondition(
                     DateUtil.stringToDateTimeAtStartOfDay(search.startDate(), "yyyy-MM-dd"),
                     DateUtil.stringToDateTimeAtEndOfDay(search.endDate(), "yyyy-MM-dd")
             );
             default -> DSL.trueCondition();
         };
 
-        // 총 레코드 수 조회
-        Integer total = dslContext
-                .selectCount()
-                .from(HISTORY_MESSAGE)
-                .where(condition)
-                .fetchOne(0, Integer.class);
+        // 시간 정렬 ID 순서가 작성 순서이므로 생성일 대신 PK로 정렬해 커서 seek이 가능하도록 함
+        return new AdminQuery<>(
+                HISTORY_MESSAGE,
+                condition,
+                ADMIN_FIELDS,
+                HISTORY_MESSAGE.ID,
+                true,
+                SelectHistoryMessageForAdminDTO.class
+        );
+    }
 
-        if (total == null || total == 0) {
-            return new PageImpl<>(List.of(), pageable, 0);
-        }
+    /**
+     * 입력값의 LIKE 와일드카드를 이스케이프한 접두 검색 패턴
+     */
+    private static String prefixPattern(String text) {
+        String escaped = text
+                .replace(String.valueOf(LIKE_ESCAPE), String.valueOf(LIKE_ESCAPE) + LIKE_ESCAPE)
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_");
+        return escaped + "%";
+    }
 
-        // 페이징 적용하여 데이터 조회
-        List<SelectHistoryMessageForAdminDTO> result = dslContext
-                .select(HISTORY_MESSAGE.ID, HISTORY_MESSAGE.ROOM_ID, HISTORY_MESSAGE.SENDER, HISTORY_MESSAGE.CONTENT, HISTORY_MESSAGE.CREATE_DATE)
-                .from(HISTORY_MESSAGE)
-                .where(condition)
-                .orderBy(HISTORY_MESSAGE.CREATE_DATE.desc())
-                .limit(pageable.getPageSize())
-                .offset(pageable.getOffset())
-                .fetchInto(SelectHistoryMessageForAdminDTO.class);
+    /**
+     * 작성일 범위 조건에 같은 구간의 ID 범위를 함께 걸어 파티션 프루닝이 되도록 합니다.
+     * (history_message는 시간 정렬 ID 기준 RANGE 파티션이므로 create_date만으로는 프루닝되지 않음)
+     * IDENTITY 시절 행은 ID로 시각을 알 수 없으므로 p_legacy 구간도 함께 조회합니다.
+     */
+    private Condition dateCondition(LocalDateTime start, LocalDateTime end) {
+        long fromId = idGenerator.minIdAt(start.atZone(ZoneId.systemDefault()).toInstant());
+        long toId = idGenerator.minIdAt(end.plusSeconds(1).atZone(ZoneId.systemDefault()).toInstant());
 
-        return new PageImpl<>(result, pageable, total);
+        return HISTORY_MESSAGE.CREATE_DATE.between(start, end)
+                .and(HISTORY_MESSAGE.ID.ge(fromId).and(HISTORY_MESSAGE.ID.lt(toId))
+                        .or(HISTORY_MESSAGE.ID.lt(SnowflakeIdGenerator.IDENTITY_ID_BOUND)));
     }
 }
@@ -0,0 +1,105 @@
+package com.api.domain.HistoryMessage.repository.jooq;
+
+import com.api.domain.chat.model.ChatMessage;
+import com.api.domain.HistoryMessage.search.HistoryNgramTokenizer;
+import com.api.jooq.tables.records.HistoryMessageTokenRecord;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.InsertValuesStep2;
+import org.jooq.Record1;
+import org.jooq.Select;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.api.jooq.tables.HistoryMessageToken.HISTORY_MESSAGE_TOKEN;
+
+@Repository
+@RequiredArgsConstructor
+public class HistoryMessageTokenDSLRepository {
+    private static final int DELETE_CHUNK = 10_000;
+
+    private final DSLContext dslContext;
+
+    /**
+     * 메시지들의 n-gram을 하나의 multi-row INSERT로 색인합니다. (이미 색인된 쌍은 무시)
+     */
+    public int insertAll(Collection<ChatMessage> messages) {
+        InsertValuesStep2<HistoryMessageTokenRecord, String, Long> insert = dslContext
+                .insertInto(HISTORY_MESSAGE_TOKEN, HISTORY_MESSAGE_TOKEN.GRAM, HISTORY_MESSAGE_TOKEN.MESSAGE_ID);
+
+        int rows = 0;
+        for (ChatMessage message : messages) {
+            if (message.getId() == null) {
+                continue;
+            }
+            for (String gram : HistoryNgramTokenizer.tokenize(message.getContent())) {
+                insert = insert.values(gram, message.getId());
+                rows++;
+            }
+        }
+
+        return rows == 0 ? 0 : insert.onDuplicateKeyIgnore().execute();
+    }
+
+    public int deleteByMessageId(Long messageId) {
+        return dslContext.deleteFrom(HISTORY_MESSAGE_TOKEN)
+                .where(HISTORY_MESSAGE_TOKEN.MESSAGE_ID.eq(messageId))
+                .execute();
+    }
+
+    /**
+     * [fromId, toId) 구간 메시지의 색인을 잘게 나눠 삭제합니다. (DROP 된 파티션 정리용, 긴 트랜잭션/락 방지)
+     */
+    public long deleteBetween(long fromId, long toId) {
+        long total = 0;
+        int deleted;
+        do {
+            deleted = dslContext.deleteFrom(HISTORY_MESSAGE_TOKEN)
+                    .where(HISTORY_MESSAGE_TOKEN.MESSAGE_ID.ge(fromId).and(HISTORY_MESSAGE_TOKEN.MESSAGE_ID.lt(toId)))
+                    .limit(DELETE_CHUNK)
+                    .execute();
+            total += deleted;
+        } while (deleted == DELETE_CHUNK);
+        return total;
+    }
+
+    /**
+     * n-gram 중 minMatch개 이상 일치하는 메시지 ID를 일치 수 → 최신순으로 최대 limit개 반환합니다.
+     * n-gram마다 PK(gram, message_id)를 역순으로 최신 scanLimit개만 읽어 합치므로,
+     * 흔한 n-gram이 섞여 있어도 읽는 행 수는 (n-gram 수 × scanLimit)을 넘지 않습니다.
+     * 대신 흔한 n-gram은 최근 scanLimit개 포스팅 안에서만 일치로 계산됩니다.
+     */
+    public List<Long> findRankedMessageIds(Collection<String> grams, int minMatch, int scanLimit, int limit) {
+        Select<Record1<Long>> postings = null;
+        for (String gram : grams) {
+            Select<Record1<Long>> recent = dslContext
+                    .select(HISTORY_MESSAGE_TOKEN.MESSAGE_ID)
+                    .from(HISTORY_MESSAGE_TOKEN)
+                    .where(HISTORY_MESSAGE_TOKEN.GRAM.eq(gram))
+                    .orderBy(HISTORY_MESSAGE_TOKEN.MESSAGE_ID.desc())
+                    .limit(scanLimit);
+            postings = postings == null ? recent : postings.unionAll(recent);
+        }
+        if (postings == null) {
+            return List.of();
+        }
+
+        Table<Record1<Long>> matched = postings.asTable("matched");
+        Field<Long> messageId = matched.field(HISTORY_MESSAGE_TOKEN.MESSAGE_ID);
+        Field<Integer> hits = DSL.count().as("hits");
+
+        return dslContext
+                .select(messageId, hits)
+                .from(matched)
+                .groupBy(messageId)
+                .having(DSL.count().ge(minMatch))
+                .orderBy(hits.desc(), messageId.desc())
+                .limit(limit)
+                .fetch(messageId);
+    }
+}
@@ -0,0 +1,110 @@
+package com.api.domain.HistoryMessage.search;
+
+import com.api.config.properties.ChatHistorySearchProperties;
+import com.api.domain.HistoryMessage.model.SelectHistoryMessageForAdminDTO;
+import com.api.domain.HistoryMessage.repository.jooq.HistoryMessageDSLRepository;
+import com.api.domain.HistoryMessage.repository.jooq.HistoryMessageTokenDSLRepository;
+import com.api.domain.chat.model.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 채팅 히스토리 내용 검색.
+ * - NGRAM: 저장/수정/삭제 시 history_message_token 역색인을 함께 갱신하고, 검색어 n-gram의 일치 수로 랭킹합니다.
+ * - FULLTEXT: MySQL FULLTEXT 관련도로 랭킹합니다. (색인은 MySQL이 관리)
+ * 두 방식 모두 상위 maxCandidates개의 ID만 랭킹한 뒤, 요청한 페이지의 ID만 history_message에서 조회합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HistoryMessageSearchIndex {
+    private final HistoryMessageDSLRepository historyMessageDSLRepository;
+    private final HistoryMessageTokenDSLRepository historyMessageTokenDSLRepository;
+    private final ChatHistorySearchProperties properties;
+
+    /**
+     * LIKE 전체 스캔 대신 이 색인으로 검색해야 하는지 여부
+     */
+    public boolean supports(String text) {
+        return switch (properties.engine()) {
+            case LIKE -> false;
+            // 검색어가 n-gram보다 짧으면 역색인으로 찾을 수 없으므로 LIKE로 처리
+            case NGRAM -> !HistoryNgramTokenizer.tokenize(text).isEmpty();
+            case FULLTEXT -> text != null && !text.isBlank();
+        };
+    }
+
+    public boolean isIndexing() {
+        return properties.engine() == HistorySearchEngine.NGRAM;
+    }
+
+    public void index(Collection<ChatMessage> messages) {
+        if (isIndexing() && !messages.isEmpty()) {
+            historyMessageTokenDSLRepository.insertAll(messages);
+        }
+    }
+
+    public void reindex(Long messageId, String content) {
+        if (!isIndexing()) {
+            return;
+        }
+        ChatMessage message = new ChatMessage(ChatMessage.MessageType.CHAT, null, content, null);
+        message.assignId(messageId);
+
+        historyMessageTokenDSLRepository.deleteByMessageId(messageId);
+        historyMessageTokenDSLRepository.insertAll(List.of(message));
+    }
+
+    public void remove(Long messageId) {
+        if (isIndexing()) {
+            historyMessageTokenDSLRepository.deleteByMessageId(messageId);
+        }
+    }
+
+    /**
+     * [fromId, toId) 구간 메시지의 색인을 제거합니다. (history_message 파티션 DROP 후 호출)
+     */
+    public void purge(long fromId, long toId) {
+        if (isIndexing()) {
+            long deleted = historyMessageTokenDSLRepository.deleteBetween(fromId, toId);
+            log.info("보관 기간이 지난 검색 색인 {}건 제거", deleted);
+        }
+    }
+
+    /**
+     * 관련도순으로 정렬된 검색 결과의 한 페이지를 반환합니다. (총 개수는 maxCandidates로 제한)
+     */
+    public Page<SelectHistoryMessageForAdminDTO> search(String text, Pageable pageable) {
+        List<Long> ranked = rankedIds(text);
+
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<SelectHistoryMessageForAdminDTO> page = historyMessageDSLRepository.findAllByIds(ranked.subList(from, to));
+
+        return new PageImpl<>(page, pageable, ranked.size());
+    }
+
+    /**
+     * 관련도순 상위 maxCandidates개의 메시지 ID (검색 화면과 내보내기가 같은 후보를 사용)
+     */
+    public List<Long> rankedIds(String text) {
+        return switch (properties.engine()) {
+            case NGRAM -> {
+                Set<String> grams = HistoryNgramTokenizer.tokenize(text);
+                int minMatch = Math.max(1, (int) Math.ceil(grams.size() * properties.minimumShouldMatch()));
+                yield historyMessageTokenDSLRepository.findRankedMessageIds(
+                        grams, minMatch, properties.postingScanLimit(), properties.maxCandidates());
+            }
+            case FULLTEXT -> historyMessageDSLRepository.findRankedIdsByFullText(text, properties.maxCandidates());
+            case LIKE -> throw new IllegalStateException("LIKE 검색은 HistoryMessageDSLRepository에서 처리합니다.");
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.api.domain.HistoryMessage.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색 역색인용 n-gram 토크나이저.
+ * 형태소 분석 없이 한국어를 검색할 수 있도록 공백/문장부호로 나눈 단어를 2글자씩 겹쳐 자릅니다. ("안녕하세요" → 안녕, 녕하, 하세, 세요)
+ * 색인과 검색어에 같은 규칙을 적용하므로, 검색어의 모든 n-gram을 가진 메시지가 해당 문자열을 포함할 가능성이 높습니다.
+ */
+public final class HistoryNgramTokenizer {
+    public static final int GRAM_SIZE = 2;
+
+    private HistoryNgramTokenizer() {
+    }
+
+    /**
+     * 텍스트의 중복 없는 n-gram 목록을 반환합니다. (GRAM_SIZE보다 짧은 단어는 제외)
+     */
+    public static Set<String> tokenize(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return grams;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        for (String word : normalized.split("[\\s\\p{Punct}]+")) {
+            // 이모지 등 서로게이트 쌍이 잘리지 않도록 코드 포인트 단위로 자름
+            int[] codePoints = word.codePoints().toArray();
+            for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+                grams.add(new String(codePoints, i, GRAM_SIZE));
+            }
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,22 @@
+package com.api.domain.HistoryMessage.search;
+
+/**
+ * 채팅 히스토리 내용 검색 방식
+ */
+public enum HistorySearchEngine {
+    /**
+     * content LIKE '%검색어%' (인덱스를 타지 못하는 전체 스캔)
+     */
+    LIKE,
+    /**
+     * history_message_token 역색인 (2-gram). write-behind writer가 저장 시 함께 색인합니다.
+     */
+    NGRAM,
+    /**
+     * MySQL FULLTEXT ... WITH PARSER ngram 인덱스.
+     * 파티션 테이블에는 FULLTEXT 인덱스를 만들 수 없으므로 history_message 파티션 관리를 끈 경우에만 사용 가능하며,
+     * 인덱스는 직접 생성해야 합니다.
+     * ALTER TABLE history_message ADD FULLTEXT INDEX ft_history_message_content (content) WITH PARSER ngram;
+     */
+    FULLTEXT
+}
@@ -0,0 +1,90 @@
+package com.api.domain.HistoryMessage.search;
+
+import com.api.common.id.IdGenerator;
+import com.api.config.properties.ChatHistorySearchProperties;
+import com.api.domain.HistoryMessage.repository.jooq.HistoryMessageDSLRepository;
+import com.api.domain.chat.model.ChatMessage;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 역색인 도입 전에 저장된 히스토리를 history_message_token에 채웁니다.
+ * 처음 실행 시 발급한 ID(until)보다 이후 메시지는 write-behind writer가 색인하므로, 그 이전 구간만 ID 오름차순으로 읽습니다.
+ * 진행 위치(cursor)를 Redis에 기록하므로 재시작해도 이어서 진행하며, 락을 잡은 노드 하나만 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "chat.history.search", name = "engine", havingValue = "NGRAM", matchIfMissing = true)
+public class HistorySearchIndexBackfill {
+    private static final String STATE_KEY = "search:history:backfill";
+    private static final String LOCK_KEY = "lock:search:history:backfill";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(5);
+
+    private final HistoryMessageDSLRepository historyMessageDSLRepository;
+    private final HistoryMessageSearchIndex historyMessageSearchIndex;
+    private final IdGenerator idGenerator;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatHistorySearchProperties properties;
+
+    private volatile boolean running;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        running = true;
+        Thread.ofPlatform().name("HistorySearchBackfill").daemon().start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    private void run() {
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.opsForHash().putIfAbsent(STATE_KEY, "until", String.valueOf(idGenerator.nextId()));
+            long until = Long.parseLong((String) stringRedisTemplate.opsForHash().get(STATE_KEY, "until"));
+            Object saved = stringRedisTemplate.opsForHash().get(STATE_KEY, "cursor");
+            long cursor = saved != null ? Long.parseLong((String) saved) : 0L;
+
+            if (cursor >= until) {
+                return;
+            }
+            log.info("검색 색인 백필 시작 (cursor={}, until={})", cursor, until);
+
+            while (running) {
+                List<ChatMessage> messages = historyMessageDSLRepository.findAllBetween(cursor, until, properties.backfillBatchSize());
+                if (messages.isEmpty()) {
+                    cursor = until;
+                    stringRedisTemplate.opsForHash().put(STATE_KEY, "cursor", String.valueOf(cursor));
+                    log.info("검색 색인 백필 완료");
+                    break;
+                }
+
+                historyMessageSearchIndex.index(messages);
+                cursor = messages.getLast().getId();
+                stringRedisTemplate.opsForHash().put(STATE_KEY, "cursor", String.valueOf(cursor));
+                stringRedisTemplate.expire(LOCK_KEY, LOCK_TTL);
+            }
+        } catch (Exception e) {
+            // 백필 스레드는 에러 발생 시 멈추므로 로그만 남기고, 다음 기동 시 cursor부터 재개
+            log.error("검색 색인 백필 실패: {}", e.getMessage(), e);
+        } finally {
+            stringRedisTemplate.delete(LOCK_KEY);
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package com.api.domain.HistoryMessage.service;
+
+import com.api.common.utils.ChatChannelUtil;
+import com.api.config.properties.ChatPersistenceProperties;
+import com.api.domain.HistoryMessage.repository.jooq.HistoryMessageDSLRepository;
+import com.api.domain.HistoryMessage.search.HistoryMessageSearchIndex;
+import com.api.domain.chat.model.ChatMessage;
+import com.api.domain.chat.model.ChatMessageCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅 히스토리 write-behind 배치 writer.
+ * 발행 Lua 스크립트가 모든 메시지를 Redis Stream(chat:persist)에 적재하면, 이 writer가 컨슈머 그룹으로 읽어
+ * batchSize개가 차거나 flushInterval이 지나면 하나의 multi-row INSERT로 history_message에 기록합니다.
+ * - ACK/XDEL은 INSERT가 커밋된 뒤에만 수행하므로, 실패/재시작 시 미처리분은 스트림에 남아 다시 처리됩니다. (at-least-once)
+ * - 저장한 메시지는 같은 배치에서 검색 역색인(history_message_token)에도 기록합니다.
+ * - 재시작 시 자신의 pending 엔트리부터 다시 처리하고, 죽은 노드의 pending 엔트리는 claimIdle 이후 가져옵니다.
+ * - 디코딩할 수 없는 레코드와 maxDeliveries번 저장에 실패한 레코드는 dead-letter 스트림(chat:persist:dlq)으로 옮기고 ACK하므로,
+ *   레코드 하나 때문에 영속화 전체가 멈추지 않습니다.
+ */
+@Slf4j
+@Component
+public class ChatHistoryBatchWriter {
+    private static final String GROUP = "chat-persist-group";
+    private static final String FRAME_FIELD = "frame";
+
+    private final HistoryMessageDSLRepository historyMessageDSLRepository;
+    private final HistoryMessageSearchIndex historyMessageSearchIndex;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChatPersistenceProperties properties;
+    private final String consumerName;
+
+    private final DistributionSummary flushSize;
+    private final Timer flushLatency;
+    private final Counter failedCounter;
+    private final Counter deadLetteredCounter;
+    private final AtomicLong backlog = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ChatHistoryBatchWriter(
+            HistoryMessageDSLRepository historyMessageDSLRepository,
+            HistoryMessageSearchIndex historyMessageSearchIndex,
+            StringRedisTemplate stringRedisTemplate,
+            ChatPersistenceProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.historyMessageDSLRepository = historyMessageDSLRepository;
+        this.historyMessageSearchIndex = historyMessageSearchIndex;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = properties;
+        this.consumerName = properties.consumerName().isBlank() ? hostName() : properties.consumerName();
+
+        this.flushSize = DistributionSummary.builder("chat.history.flush.size")
+                .description("한 번의 INSERT로 기록한 메시지 수")
+                .register(meterRegistry);
+        this.flushLatency = Timer.builder("chat.history.flush.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("chat.history.failed").register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("chat.history.dead_lettered").register(meterRegistry);
+        Gauge.builder("chat.history.backlog", backlog, AtomicLong::get)
+                .description("영속화 스트림에 남아 있는 메시지 수 (미처리 + 미ACK)")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            stringRedisTemplate.opsForStream().createGroup(ChatChannelUtil.PERSIST_STREAM_KEY, ReadOffset.from("0"), GROUP);
+        } catch (Exception ignored) {
+            // 그룹이 이미 존재하면 무시
+            log.info("Redis Stream Group already exists: {}", GROUP);
+        }
+
+        running = true;
+        flusher = Thread.ofPlatform().name("ChatHistoryFlush").start(this::runLoop);
+    }
+
+    /**
+     * 진행 중인 배치를 마치고 종료합니다. 읽지 않은 메시지는 스트림에 남아 다음 기동 시 처리됩니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        flusher.join();
+    }
+
+    private void runLoop() {
+        // 1) 재시작 전에 읽었지만 ACK하지 못한 자신의 pending 엔트리부터 처리
+        boolean retryPending = true;
+        long nextClaimAt = System.nanoTime() + properties.claimIdle().toNanos();
+
+        while (running) {
+            try {
+                if (retryPending) {
+                    retryPending = !drainPending();
+                    continue;
+                }
+
+                // 2) 새 메시지를 batchSize 또는 flushInterval까지 모아서 저장
+                List<MapRecord<String, Object, Object>> batch = collect();
+                if (!batch.isEmpty() && !flush(batch)) {
+                    retryPending = true;
+                    continue;
+                }
+
+                // 3) 죽은 노드가 ACK하지 못한 엔트리 회수
+                if (System.nanoTime() >= nextClaimAt) {
+                    List<MapRecord<String, Object, Object>> claimed = claimIdle();
+                    if (!claimed.isEmpty() && !flush(claimed)) {
+                        retryPending = true;
+                    }
+                    nextClaimAt = System.nanoTime() + properties.claimIdle().toNanos();
+                }
+            } catch (Exception e) {
+                // Redis 장애 등으로 루프가 죽지 않도록 대기 후 재시도
+                log.error("채팅 히스토리 영속화 스트림 처리 실패: {}", e.getMessage());
+                retryPending = true;
+                backoff();
+            }
+        }
+    }
+
+    /**
+     * 자신의 pending 엔트리를 모두 다시 저장합니다.
+     * @return 모두 처리했다면 true, INSERT에 실패했다면 false
+     */
+    private boolean drainPending() {
+        while (running) {
+            List<MapRecord<String, Object, Object>> pending = ops().read(
+                    Consumer.from(GROUP, consumerName),
+                    StreamReadOptions.empty().count(properties.batchSize()),
+                    StreamOffset.create(ChatChannelUtil.PERSIST_STREAM_KEY, ReadOffset.from("0"))
+            );
+            if (pending == null || pending.isEmpty()) {
+                return true;
+            }
+            if (!flush(pending)) {
+                backoff();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 첫 메시지를 받은 시점부터 flushInterval 안에서 batchSize개까지 모읍니다.
+     */
+    private List<MapRecord<String, Object, Object>> collect() {
+        List<MapRecord<String, Object, Object>> batch = new ArrayList<>();
+        long intervalNanos = properties.flushInterval().toNanos();
+        long deadline = 0;
+
+        while (running && batch.size() < properties.batchSize()) {
+            long waitNanos = batch.isEmpty() ? intervalNanos : deadline - System.nanoTime();
+            if (waitNanos <= 0) {
+                break;
+            }
+
+            // BLOCK 0은 무한 대기이므로 최소 1ms
+            List<MapRecord<String, Object, Object>> read = ops().read(
+                    Consumer.from(GROUP, consumerName),
+                    StreamReadOptions.empty()
+                            .count(properties.batchSize() - batch.size())
+                            .block(Duration.ofMillis(Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos)))),
+                    StreamOffset.create(ChatChannelUtil.PERSIST_STREAM_KEY, ReadOffset.lastConsumed())
+            );
+            if (read == null || read.isEmpty()) {
+                break;
+            }
+            if (batch.isEmpty()) {
+                deadline = System.nanoTime() + intervalNanos;
+            }
+            batch.addAll(read);
+        }
+        return batch;
+    }
+
+    /**
+     * 다른 컨슈머가 claimIdle 이상 ACK하지 않은 엔트리를 이 컨슈머로 가져옵니다.
+     */
+    private List<MapRecord<String, Object, Object>> claimIdle() {
+        PendingMessages pending = ops().pending(
+                ChatChannelUtil.PERSIST_STREAM_KEY, GROUP, Range.unbounded(), properties.batchSize());
+
+        RecordId[] idle = pending.stream()
+                .filter(message -> !consumerName.equals(message.getConsumerName()))
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(properties.claimIdle()) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (idle.length == 0) {
+            return List.of();
+        }
+
+        log.info("ACK되지 않은 영속화 엔트리 {}건을 가져옵니다.", idle.length);
+        return ops().claim(ChatChannelUtil.PERSIST_STREAM_KEY, GROUP, consumerName, properties.claimIdle(), idle);
+    }
+
+    /**
+     * 배치를 multi-row INSERT로 저장하고, 커밋된 뒤에만 ACK + XDEL 합니다.
+     * - 디코딩할 수 없는 레코드는 재시도해도 성공할 수 없으므로 바로 dead-letter로 이동
+     * - 배치 INSERT가 실패하면 레코드별로 다시 저장해, 실패한 레코드만 pending으로 남김
+     * - 실패한 레코드 중 전달 횟수(XPENDING)가 maxDeliveries에 도달한 레코드는 dead-letter로 이동
+     * @return 모든 레코드를 저장했거나 dead-letter로 옮겼다면 true (false면 남은 레코드를 재시도)
+     */
+    boolean flush(List<MapRecord<String, Object, Object>> records) {
+        List<MapRecord<String, Object, Object>> decoded = new ArrayList<>(records.size());
+        List<ChatMessage> messages = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            try {
+                Object frame = record.getValue().get(FRAME_FIELD);
+                if (frame == null) {
+                    throw new IllegalArgumentException("frame 필드가 없습니다.");
+                }
+                messages.add(ChatMessageCodec.decode(frame.toString()));
+                decoded.add(record);
+            } catch (Exception e) {
+                moveToDeadLetter(record, 1, "디코딩 실패: " + e.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            return true;
+        }
+
+        if (save(messages)) {
+            complete(decoded);
+            return true;
+        }
+
+        // 배치 전체 실패 → 레코드별로 다시 저장해 문제 레코드만 골라냄
+        List<MapRecord<String, Object, Object>> saved = new ArrayList<>();
+        List<MapRecord<String, Object, Object>> failed = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            if (save(List.of(messages.get(i)))) {
+                saved.add(decoded.get(i));
+            } else {
+                failed.add(decoded.get(i));
+            }
+        }
+        if (!saved.isEmpty()) {
+            complete(saved);
+        }
+        if (failed.isEmpty()) {
+            return true;
+        }
+
+        Map<RecordId, Long> deliveries = deliveryCounts(failed);
+        boolean remaining = false;
+        for (MapRecord<String, Object, Object> record : failed) {
+            long delivered = deliveries.getOrDefault(record.getId(), 1L);
+            if (delivered >= properties.maxDeliveries()) {
+                moveToDeadLetter(record, delivered, "저장 실패");
+            } else {
+                remaining = true;
+            }
+        }
+        return !remaining;
+    }
+
+    /**
+     * 메시지를 저장하고 검색 색인에 기록합니다.
+     * @return 저장에 성공했다면 true
+     */
+    private boolean save(List<ChatMessage> messages) {
+        long start = System.nanoTime();
+        try {
+            historyMessageDSLRepository.insertAll(messages);
+            // 색인도 중복 키를 무시하므로, 색인 실패로 배치가 재시도되어도 안전
+            historyMessageSearchIndex.index(messages);
+        } catch (Exception e) {
+            failedCounter.increment(messages.size());
+            log.error("채팅 히스토리 배치 저장 실패 (size={}): {}", messages.size(), e.getMessage(), e);
+            return false;
+        } finally {
+            flushLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        flushSize.record(messages.size());
+        return true;
+    }
+
+    /**
+     * 처리가 끝난 레코드를 ACK + XDEL 합니다.
+     */
+    private void complete(List<MapRecord<String, Object, Object>> records) {
+        RecordId[] ids = records.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+        ops().acknowledge(ChatChannelUtil.PERSIST_STREAM_KEY, GROUP, ids);
+        ops().delete(ChatChannelUtil.PERSIST_STREAM_KEY, ids);
+
+        Long size = ops().size(ChatChannelUtil.PERSIST_STREAM_KEY);
+        backlog.set(size != null ? size : 0);
+    }
+
+    /**
+     * 이 컨슈머의 pending 엔트리에서 레코드별 전달 횟수를 조회합니다.
+     */
+    private Map<RecordId, Long> deliveryCounts(List<MapRecord<String, Object, Object>> records) {
+        PendingMessages pending = ops().pending(
+                ChatChannelUtil.PERSIST_STREAM_KEY,
+                Consumer.from(GROUP, consumerName),
+                Range.closed(records.getFirst().getId().getValue(), records.getLast().getId().getValue()),
+                properties.batchSize()
+        );
+
+        Map<RecordId, Long> deliveries = new HashMap<>();
+        if (pending != null) {
+            pending.forEach(message -> deliveries.put(message.getId(), message.getTotalDeliveryCount()));
+        }
+        return deliveries;
+    }
+
+    /**
+     * 레코드를 dead-letter 스트림에 원본 프레임 그대로 추가하고, 원래 스트림에서는 ACK + XDEL 합니다.
+     */
+    private void moveToDeadLetter(MapRecord<String, Object, Object> record, long deliveries, String reason) {
+        Object frame = record.getValue().get(FRAME_FIELD);
+        ops().add(StreamRecords.string(Map.of(
+                FRAME_FIELD, frame != null ? frame.toString() : "",
+                "sourceId", record.getId().getValue(),
+                "deliveries", String.valueOf(deliveries),
+                "reason", reason,
+                "deadAt", Instant.now().toString()
+        )).withStreamKey(ChatChannelUtil.PERSIST_DLQ_STREAM_KEY));
+        complete(List.of(record));
+
+        deadLetteredCounter.increment();
+        log.warn("영속화 엔트리 {}를 {}회 전달 후 dead-letter로 이동했습니다. ({})", record.getId(), deliveries, reason);
+    }
+
+    private StreamOperations<String, Object, Object> ops() {
+        return stringRedisTemplate.opsForStream();
+    }
+
+    private void backoff() {
+        try {
+            Thread.sleep(properties.retryBackoff());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "chat-persist-" + ProcessHandle.current().pid();
+        }
+    }
+}
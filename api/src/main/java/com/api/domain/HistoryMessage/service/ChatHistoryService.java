@@ -1,43 +1,118 @@
 package com.api.domain.HistoryMessage.service;
 
-import com.api.domain.HistoryMessage.entity.HistoryMessageEntity;
+import com.api.common.export.AdminExportWriter;
+import com.api.common.export.ExportFormat;
+import com.api.common.id.IdGenerator;
+import com.api.common.id.SnowflakeIdGenerator;
+import com.api.common.query.AdminPageRequest;
+import com.api.config.properties.ChatHistoryPartitionProperties;
+import com.api.domain.HistoryMessage.archive.HistoryColdArchive;
 import com.api.domain.HistoryMessage.model.ModifyHistoryMessageRequest;
 import com.api.domain.HistoryMessage.model.SearchHistoryMessageRequest;
 import com.api.domain.HistoryMessage.model.SelectHistoryMessageForAdminDTO;
+import com.api.domain.HistoryMessage.model.enums.SearchHistoryMessageType;
 import com.api.domain.HistoryMessage.repository.HistoryMessageRepository;
 import com.api.domain.HistoryMessage.repository.jooq.HistoryMessageDSLRepository;
+import com.api.domain.HistoryMessage.search.HistoryMessageSearchIndex;
 import com.api.domain.chat.model.ChatMessage;
 import lombok.RequiredArgsConstructor;
+import org.jooq.Cursor;
+import org.jooq.Record;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class ChatHistoryService {
     private final HistoryMessageRepository historyMessageRepository;
     private final HistoryMessageDSLRepository historyMessageDSLRepository;
+    private final HistoryColdArchive historyColdArchive;
+    private final HistoryMessageSearchIndex historyMessageSearchIndex;
+    private final AdminExportWriter adminExportWriter;
+    private final IdGenerator idGenerator;
+    private final ChatHistoryPartitionProperties partitionProperties;
 
+    /**
+     * 방의 before보다 오래된 메시지를 최신순 limit개 조회합니다. (Redis 구간 이후의 저장소 조회)
+     * - before가 MySQL 보관 기간 안이면 MySQL에서 keyset으로 조회하고
+     * - 모자란 만큼은 콜드 아카이브에서 이어서 읽습니다.
+     * - before가 보관 기간보다 오래됐다면 MySQL을 건너뛰고 아카이브만 읽습니다.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.NOT_SUPPORTED)
+    public List<ChatMessage> findMessagesBefore(String roomId, Long before, int limit) {
+        List<ChatMessage> result = new ArrayList<>(limit);
+        if (!isArchivedOnly(before)) {
+            result.addAll(historyMessageDSLRepository.findByRoomIdBefore(roomId, before, limit));
+        }
+
+        if (result.size() < limit && historyColdArchive.isEnabled()) {
+            Long cursor = result.isEmpty() ? before : result.getLast().getId();
+            result.addAll(historyColdArchive.findBefore(roomId, cursor, limit - result.size()));
+        }
+        return result;
+    }
 
     /**
-     * 비동기적으로 채팅 메시지를 영속화합니다.
-     * @param msg 채팅 메시지
+     * 관리자용 아카이브 조회 (방의 하루치, 오래된 순)
      */
-    @Async("chatPersistenceExecutor")
-    public void asyncPersistChatHistory(ChatMessage msg) {
-        historyMessageRepository.save(HistoryMessageEntity.builder()
-                .roomId(msg.getRoomId())
-                .sender(msg.getSender())
-                .content(msg.getContent())
-                .build());
+    public List<SelectHistoryMessageForAdminDTO> findArchivedMessages(String roomId, LocalDate day) {
+        return historyColdArchive.readDay(roomId, day).stream()
+                .map(SelectHistoryMessageForAdminDTO::new)
+                .toList();
+    }
+
+    private boolean isArchivedOnly(Long before) {
+        if (before == null || !historyColdArchive.isEnabled() || !partitionProperties.enabled()) {
+            return false;
+        }
+        // IDENTITY 시절 ID는 p_legacy에 남아 있으므로 항상 MySQL 조회
+        if (before < SnowflakeIdGenerator.IDENTITY_ID_BOUND) {
+            return false;
+        }
+        // 파티션은 구간 단위로 DROP 되므로 보관 기간 + 한 구간 이전까지는 MySQL에 남아 있을 수 있음
+        Instant hotStart = partitionProperties.unit()
+                .truncate(LocalDate.now().minusDays(partitionProperties.retention().toDays()))
+                .atStartOfDay(ZoneId.systemDefault())
+                .toInstant();
+        return before <= idGenerator.minIdAt(hotStart);
     }
 
     @Transactional(readOnly = true, propagation = Propagation.NOT_SUPPORTED)
-    public Page<SelectHistoryMessageForAdminDTO> findAllBySearchCondition(SearchHistoryMessageRequest search, Pageable pageable) {
-        return historyMessageDSLRepository.findAllBySearchCondition(search, pageable);
+    public Page<SelectHistoryMessageForAdminDTO> findAllBySearchCondition(SearchHistoryMessageRequest search, AdminPageRequest paging, Pageable pageable) {
+        // 내용 검색은 LIKE 전체 스캔 대신 검색 색인으로 관련도순 조회
+        if (search.searchType() == SearchHistoryMessageType.CONTENT && historyMessageSearchIndex.supports(search.searchText())) {
+            return historyMessageSearchIndex.search(search.searchText(), pageable);
+        }
+        return historyMessageDSLRepository.findAllBySearchCondition(search, paging, pageable);
+    }
+
+    /**
+     * 검색 조건에 맞는 채팅 기록을 out으로 스트리밍합니다. (내보내기)
+     * 내용 검색은 목록 조회와 같은 검색 색인 후보(관련도순 상위 maxCandidates개)를 내보냅니다.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.NOT_SUPPORTED)
+    public long exportBySearchCondition(SearchHistoryMessageRequest search, ExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        try (Cursor<Record> cursor = openExportCursor(search)) {
+            return adminExportWriter.write(cursor, format, gzip, out);
+        }
+    }
+
+    private Cursor<Record> openExportCursor(SearchHistoryMessageRequest search) {
+        if (search.searchType() == SearchHistoryMessageType.CONTENT && historyMessageSearchIndex.supports(search.searchText())) {
+            return historyMessageDSLRepository.openExportCursorByIds(historyMessageSearchIndex.rankedIds(search.searchText()));
+        }
+        return historyMessageDSLRepository.openExportCursor(search);
     }
 
     @Transactional(readOnly = true)
@@ -52,6 +127,7 @@ public class ChatHistoryService {
                 .ifPresentOrElse(historyMessage -> {
                     historyMessage.update(request.content(), request.sender());
                     historyMessageRepository.save(historyMessage);
+                    historyMessageSearchIndex.reindex(historyMessage.getId(), request.content());
                 }, () -> {
                     throw new IllegalArgumentException("채팅 기록을 찾을 수 없습니다.");
                 });
@@ -59,7 +135,10 @@ public class ChatHistoryService {
 
     public void deleteHistoryMessage(Long id) {
         historyMessageRepository.findById(id)
-                .ifPresentOrElse(historyMessageRepository::delete, () -> {
+                .ifPresentOrElse(historyMessage -> {
+                    historyMessageRepository.delete(historyMessage);
+                    historyMessageSearchIndex.remove(id);
+                }, () -> {
                     throw new IllegalArgumentException("채팅 기록을 찾을 수 없습니다.");
                 });
     }
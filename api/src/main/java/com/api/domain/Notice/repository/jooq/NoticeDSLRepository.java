@@ -1,14 +1,17 @@
 package com.api.domain.Notice.repository.jooq;
 
+import com.api.common.query.AdminPageRequest;
+import com.api.common.query.AdminQuery;
+import com.api.common.query.AdminQueryExecutor;
 import com.api.common.utils.DateUtil;
 import com.api.domain.Notice.model.SearchNoticeRequest;
 import com.api.domain.Notice.model.SelectNoticeForAdminDTO;
 import lombok.RequiredArgsConstructor;
 import org.jooq.Condition;
-import org.jooq.DSLContext;
+import org.jooq.Cursor;
+import org.jooq.Record;
 import org.jooq.impl.DSL;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
@@ -19,9 +22,20 @@ import static com.api.jooq.Tables.NOTICES;
 @Repository
 @RequiredArgsConstructor
 public class NoticeDSLRepository {
-    private final DSLContext dslContext;
+    private final AdminQueryExecutor adminQueryExecutor;
 
-    public Page<SelectNoticeForAdminDTO> findAllBySearchCondition(SearchNoticeRequest search, Pageable pageable) {
+    public Page<SelectNoticeForAdminDTO> findAllBySearchCondition(SearchNoticeRequest search, AdminPageRequest paging, Pageable pageable) {
+        return adminQueryExecutor.fetchPage(searchQuery(search), paging, pageable);
+    }
+
+    /**
+     * 검색 조건에 맞는 행을 스트리밍 커서로 엽니다. (내보내기용, 사용 후 반드시 close)
+     */
+    public Cursor<Record> openExportCursor(SearchNoticeRequest search) {
+        return adminQueryExecutor.openCursor(searchQuery(search));
+    }
+
+    private AdminQuery<SelectNoticeForAdminDTO> searchQuery(SearchNoticeRequest search) {
         // 검색 조건 설정
         Condition condition = switch (search.searchType()) {
             case TITLE -> NOTICES.TITLE.likeIgnoreCase("%" + search.searchText() + "%");
@@ -34,27 +48,14 @@ public class NoticeDSLRepository {
             default -> DSL.trueCondition();
         };
 
-        // 총 레코드 수 조회
-        Integer total = dslContext
-                .selectCount()
-                .from(NOTICES)
-                .where(condition)
-                .fetchOne(0, Integer.class);
-
-        if (total == null || total == 0) {
-            return new PageImpl<>(List.of(), pageable, 0);
-        }
-
-        // 페이징 적용하여 데이터 조회
-        List<SelectNoticeForAdminDTO> result = dslContext
-                .select(NOTICES.ID, NOTICES.TITLE, NOTICES.CONTENT, NOTICES.AUTHOR, NOTICES.IS_MAIN_NOTICE, NOTICES.IS_DELETED, NOTICES.CREATE_DATE)
-                .from(NOTICES)
-                .where(condition)
-                .orderBy(NOTICES.CREATE_DATE.desc())
-                .limit(pageable.getPageSize())
-                .offset(pageable.getOffset())
-                .fetchInto(SelectNoticeForAdminDTO.class);
-
-        return new PageImpl<>(result, pageable, total);
+        // 공지 ID는 생성 순서대로 증가하므로 생성일 대신 PK로 정렬해 커서 seek이 가능하도록 함
+        return new AdminQuery<>(
+                NOTICES,
+                condition,
+                List.of(NOTICES.ID, NOTICES.TITLE, NOTICES.CONTENT, NOTICES.AUTHOR, NOTICES.IS_MAIN_NOTICE, NOTICES.IS_DELETED, NOTICES.CREATE_DATE),
+                NOTICES.ID,
+                true,
+                SelectNoticeForAdminDTO.class
+        );
     }
 }
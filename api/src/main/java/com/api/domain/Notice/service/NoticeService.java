@@ -1,5 +1,6 @@
 package com.api.domain.Notice.service;
 
+import com.api.common.query.AdminPageRequest;
 import com.api.domain.Notice.model.ModifyNoticeRequest;
 import com.api.domain.Notice.model.SearchNoticeRequest;
 import com.api.domain.Notice.model.SelectNoticeForAdminDTO;
@@ -19,8 +20,8 @@ public class NoticeService {
     private final NoticeDSLRepository noticeDSLRepository;
 
     @Transactional(readOnly = true, propagation = Propagation.NOT_SUPPORTED)
-    public Page<SelectNoticeForAdminDTO> findAllBySearchCondition(SearchNoticeRequest search, Pageable pageable) {
-        return noticeDSLRepository.findAllBySearchCondition(search, pageable);
+    public Page<SelectNoticeForAdminDTO> findAllBySearchCondition(SearchNoticeRequest search, AdminPageRequest paging, Pageable pageable) {
+        return noticeDSLRepository.findAllBySearchCondition(search, paging, pageable);
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,32 @@
+package com.api.domain.chat.broker;
+
+import com.api.domain.chat.model.ChatMessage;
+
+import java.util.List;
+
+/**
+ * 방 메시지의 발행, 노드별 수신 구독, 히스토리 조회를 담당하는 브로커.
+ * chat.broker.mode 설정으로 Pub/Sub 구현과 Stream 구현을 전환합니다.
+ */
+public interface ChatBroker {
+
+    /**
+     * 메시지에 방별 시퀀스를 부여하고 방의 모든 노드에 발행합니다.
+     */
+    void publish(ChatMessage message);
+
+    /**
+     * 이 노드가 방의 메시지를 수신하기 시작합니다. (방의 첫 로컬 세션 접속 시)
+     */
+    void hostRoom(String roomId);
+
+    /**
+     * 이 노드가 방의 메시지 수신을 중단합니다. (방의 마지막 로컬 세션 종료 시)
+     */
+    void releaseRoom(String roomId);
+
+    /**
+     * 히스토리 윈도우를 인코딩된 프레임 그대로 최신순으로 반환합니다.
+     */
+    List<byte[]> getRecentFrames(String roomId);
+}
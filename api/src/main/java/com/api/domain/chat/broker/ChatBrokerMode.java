@@ -0,0 +1,8 @@
+package com.api.domain.chat.broker;
+
+public enum ChatBrokerMode {
+    // 방별 Pub/Sub 채널로 fan-out, Redis List로 히스토리 보관
+    PUBSUB,
+    // 방별 capped Stream(room:{id}:log) 하나로 fan-out과 히스토리를 모두 처리
+    STREAM
+}
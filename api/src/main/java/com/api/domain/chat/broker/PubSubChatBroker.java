@@ -0,0 +1,43 @@
+package com.api.domain.chat.broker;
+
+import com.api.domain.chat.model.ChatMessage;
+import com.api.domain.chat.redis.repository.RedisRoomRepository;
+import com.api.domain.chat.redis.service.RedisPublisher;
+import com.api.domain.chat.redis.service.RoomChannelSubscriptionManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 방별 Pub/Sub 채널(chat:room:{roomId})과 Redis List(chat_history:{roomId}) 기반 브로커.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "chat.broker", name = "mode", havingValue = "PUBSUB", matchIfMissing = true)
+public class PubSubChatBroker implements ChatBroker {
+    private final RedisPublisher redisPublisher;
+    private final RoomChannelSubscriptionManager roomChannelSubscriptionManager;
+    private final RedisRoomRepository redisRoomRepository;
+
+    @Override
+    public void publish(ChatMessage message) {
+        redisPublisher.publish(message);
+    }
+
+    @Override
+    public void hostRoom(String roomId) {
+        roomChannelSubscriptionManager.subscribe(roomId);
+    }
+
+    @Override
+    public void releaseRoom(String roomId) {
+        roomChannelSubscriptionManager.unsubscribe(roomId);
+    }
+
+    @Override
+    public List<byte[]> getRecentFrames(String roomId) {
+        return redisRoomRepository.getChatHistoryFrames(roomId);
+    }
+}
@@ -0,0 +1,302 @@
+package com.api.domain.chat.broker;
+
+import com.api.common.id.IdGenerator;
+import com.api.common.utils.ChatChannelUtil;
+import com.api.config.properties.ChatBrokerProperties;
+import com.api.config.properties.ChatHistoryProperties;
+import com.api.domain.chat.model.ChatMessage;
+import com.api.domain.chat.model.ChatMessageCodec;
+import com.api.domain.chat.redis.service.RedisSubscriber;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 방별 capped Stream(room:{roomId}:log)을 fan-out 소스이자 히스토리 저장소로 사용하는 브로커.
+ * - 발행: INCR 시퀀스 + XADD MAXLEN ~ N + 영속화 스트림(chat:persist) XADD를 Lua 스크립트 한 번으로 실행
+ * - 수신: 호스팅 시작 시점의 마지막 ID(baseline)부터 방별 커서를 이어가며 XREAD (순서 보장/누락 감지 가능)
+ *   방들은 streamReaders개의 리더에 나뉘어, 리더마다 전용 연결 하나로 여러 방 스트림을 한 번의 XREAD로 읽음
+ *   새 방을 호스팅하면 리더 전용 wake 스트림에 엔트리를 추가해 블로킹 중인 XREAD를 즉시 반환시키고, 새 방을 포함해 다시 읽음
+ * - 히스토리: baseline 이하를 XREVRANGE COUNT {windowSize} (이후 엔트리는 수신 경로로 전달되므로 겹치거나 빠지지 않음)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "chat.broker", name = "mode", havingValue = "STREAM")
+public class StreamChatBroker implements ChatBroker {
+    private static final String FRAME_FIELD = "frame";
+    private static final byte[] FRAME_FIELD_BYTES = FRAME_FIELD.getBytes(StandardCharsets.UTF_8);
+    private static final String EMPTY_STREAM_ID = "0-0";
+    private static final int READ_COUNT = 100;
+    // 노드가 종료되어 남은 wake 스트림이 정리되도록 호스팅할 때마다 갱신하는 만료 시간
+    private static final Duration WAKE_TTL = Duration.ofHours(1);
+
+    private final RedisConnectionFactory connectionFactory;
+    private final RedisTemplate<String, byte[]> chatPubSubTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisScript<Long> chatStreamPublishScript;
+    private final ChatBrokerProperties chatBrokerProperties;
+    private final ChatHistoryProperties chatHistoryProperties;
+    private final IdGenerator idGenerator;
+    private final RedisSubscriber redisSubscriber;
+
+    private final VirtualThreadTaskExecutor readerExecutor = new VirtualThreadTaskExecutor("ChatLog-");
+    // 리더별 wake 스트림 키를 노드마다 구분하기 위한 인스턴스 ID
+    private final String instanceId = UUID.randomUUID().toString();
+    // 호스팅 중인 방 → 마지막으로 전달한 엔트리 ID
+    private final Map<String, String> cursors = new ConcurrentHashMap<>();
+    // 호스팅 중인 방 → 호스팅 시작 시점의 마지막 엔트리 ID (히스토리와 실시간 수신의 경계)
+    private final Map<String, String> baselines = new ConcurrentHashMap<>();
+    private volatile boolean running;
+
+    // RedisSubscriber → ChatWebSocketHandler → ChatBroker 순환을 끊기 위해 지연 주입
+    public StreamChatBroker(RedisConnectionFactory connectionFactory,
+                            RedisTemplate<String, byte[]> chatPubSubTemplate,
+                            StringRedisTemplate stringRedisTemplate,
+                            RedisScript<Long> chatStreamPublishScript,
+                            ChatBrokerProperties chatBrokerProperties,
+                            ChatHistoryProperties chatHistoryProperties,
+                            IdGenerator idGenerator,
+                            @Lazy RedisSubscriber redisSubscriber) {
+        this.connectionFactory = connectionFactory;
+        this.chatPubSubTemplate = chatPubSubTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.chatStreamPublishScript = chatStreamPublishScript;
+        this.chatBrokerProperties = chatBrokerProperties;
+        this.chatHistoryProperties = chatHistoryProperties;
+        this.idGenerator = idGenerator;
+        this.redisSubscriber = redisSubscriber;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int reader = 0; reader < chatBrokerProperties.streamReaders(); reader++) {
+            int index = reader;
+            readerExecutor.execute(() -> readLoop(index));
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        // 블로킹 XREAD 중인 리더가 타임아웃을 기다리지 않고 종료하도록 깨움
+        for (int reader = 0; reader < chatBrokerProperties.streamReaders(); reader++) {
+            wake(reader);
+        }
+    }
+
+    @Override
+    public void publish(ChatMessage message) {
+        message.assignId(idGenerator.nextId());
+        message.assignTimestamp(System.currentTimeMillis());
+        byte[] frame = ChatMessageCodec.encode(message);
+
+        String roomId = message.getRoomId();
+        List<String> keys = List.of("chat_seq:" + roomId, logKey(roomId), ChatChannelUtil.PERSIST_STREAM_KEY);
+        byte[] maxLen = String.valueOf(chatBrokerProperties.streamMaxLen()).getBytes(StandardCharsets.UTF_8);
+
+        Long seq = chatPubSubTemplate.execute(chatStreamPublishScript, keys, frame, maxLen);
+        if (seq != null) {
+            message.assignSeq(seq);
+        }
+    }
+
+    @Override
+    public void hostRoom(String roomId) {
+        // XREAD에 $를 넘기면 매 폴링마다 "지금 이후"가 되어 디스패치 중 추가된 엔트리를 놓치므로,
+        // 현재 마지막 ID를 커서로 고정하고 이후에는 받은 ID로 이어서 읽음
+        String tail = tailId(roomId);
+        baselines.put(roomId, tail);
+        cursors.put(roomId, tail);
+        // 담당 리더가 이전 방 목록으로 XREAD BLOCK 중이면 타임아웃까지 새 방을 읽지 못하므로 깨움
+        wake(readerOf(roomId));
+        log.debug("Hosting room log stream: {} from {}", roomId, tail);
+    }
+
+    @Override
+    public void releaseRoom(String roomId) {
+        cursors.remove(roomId);
+        baselines.remove(roomId);
+        log.debug("Released room log stream: {}", roomId);
+    }
+
+    @Override
+    public List<byte[]> getRecentFrames(String roomId) {
+        String baseline = baselines.get(roomId);
+        Range<String> range = baseline != null
+                ? Range.leftUnbounded(Range.Bound.inclusive(baseline))
+                : Range.unbounded();
+
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+                .reverseRange(logKey(roomId), range, Limit.limit().count(chatHistoryProperties.windowSize()));
+
+        if (records == null) {
+            return List.of();
+        }
+        return records.stream()
+                .map(record -> record.getValue().get(FRAME_FIELD))
+                .filter(Objects::nonNull)
+                .map(frame -> frame.toString().getBytes(StandardCharsets.UTF_8))
+                .toList();
+    }
+
+    /**
+     * 리더 하나의 수신 루프. 이 리더에 배정된 방들의 스트림을 커서와 함께 한 번의 XREAD BLOCK으로 읽습니다.
+     * 리더 전용 wake 스트림도 함께 읽으므로, 방이 추가되면 블로킹 XREAD가 바로 반환되어 새 방 목록으로 다시 읽습니다.
+     * 블로킹 XREAD는 연결을 점유하므로 리더마다 연결을 하나씩 유지합니다.
+     */
+    private void readLoop(int reader) {
+        byte[] wakeKey = wakeKey(reader).getBytes(StandardCharsets.UTF_8);
+        // wake 엔트리도 커서로 이어 읽어, XREAD 사이에 추가된 wake를 놓치지 않음
+        String wakeCursor = EMPTY_STREAM_ID;
+        RedisConnection connection = null;
+        try {
+            while (running) {
+                try {
+                    if (connection == null) {
+                        connection = connectionFactory.getConnection();
+                    }
+
+                    List<ByteRecord> records = connection.streamCommands().xRead(
+                            StreamReadOptions.empty().count(READ_COUNT).block(chatBrokerProperties.streamPollTimeout()),
+                            offsetsOf(reader, wakeKey, wakeCursor)
+                    );
+                    if (records == null) {
+                        continue;
+                    }
+                    for (ByteRecord record : records) {
+                        if (Arrays.equals(record.getStream(), wakeKey)) {
+                            wakeCursor = record.getId().getValue();
+                        } else {
+                            deliver(record);
+                        }
+                    }
+                } catch (Exception e) {
+                    log.error("방 로그 스트림 수신 실패 (reader={}): {}", reader, e.getMessage(), e);
+                    if (connection != null) {
+                        connection.close();
+                        connection = null;
+                    }
+                    Thread.sleep(chatBrokerProperties.streamPollTimeout().toMillis());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (connection != null) {
+                connection.close();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private StreamOffset<byte[]>[] offsetsOf(int reader, byte[] wakeKey, String wakeCursor) {
+        Stream<StreamOffset<byte[]>> rooms = cursors.entrySet().stream()
+                .filter(entry -> readerOf(entry.getKey()) == reader)
+                .map(entry -> StreamOffset.create(
+                        logKey(entry.getKey()).getBytes(StandardCharsets.UTF_8), ReadOffset.from(entry.getValue())));
+        return Stream.concat(rooms, Stream.of(StreamOffset.create(wakeKey, ReadOffset.from(wakeCursor))))
+                .toArray(StreamOffset[]::new);
+    }
+
+    private int readerOf(String roomId) {
+        return Math.floorMod(roomId.hashCode(), chatBrokerProperties.streamReaders());
+    }
+
+    /**
+     * 리더의 wake 스트림에 엔트리를 추가해 블로킹 중인 XREAD를 반환시킵니다. (엔트리는 1개만 유지)
+     */
+    private void wake(int reader) {
+        String key = wakeKey(reader);
+        try {
+            stringRedisTemplate.opsForStream().add(
+                    StreamRecords.string(Map.of("wake", "1")).withStreamKey(key),
+                    XAddOptions.maxlen(1));
+            stringRedisTemplate.expire(key, WAKE_TTL);
+        } catch (Exception e) {
+            // 깨우지 못해도 streamPollTimeout 이후 다음 XREAD에서 새 방을 읽음
+            log.warn("방 로그 리더 깨우기 실패 (reader={}): {}", reader, e.getMessage());
+        }
+    }
+
+    /**
+     * 커서를 전진시킨 레코드만 전달합니다.
+     * 읽는 도중 방이 해제됐거나 같은 엔트리를 다시 읽은 경우에는 전달하지 않습니다.
+     */
+    private void deliver(ByteRecord record) {
+        String roomId = roomIdOf(new String(record.getStream(), StandardCharsets.UTF_8));
+        String id = record.getId().getValue();
+
+        AtomicBoolean advanced = new AtomicBoolean();
+        cursors.computeIfPresent(roomId, (k, cursor) -> {
+            if (compare(id, cursor) > 0) {
+                advanced.set(true);
+                return id;
+            }
+            return cursor;
+        });
+        if (!advanced.get()) {
+            return;
+        }
+
+        record.getValue().entrySet().stream()
+                .filter(entry -> Arrays.equals(entry.getKey(), FRAME_FIELD_BYTES))
+                .findFirst()
+                .ifPresent(entry -> redisSubscriber.dispatch(entry.getValue()));
+    }
+
+    private String tailId(String roomId) {
+        List<MapRecord<String, Object, Object>> last = stringRedisTemplate.opsForStream()
+                .reverseRange(logKey(roomId), Range.unbounded(), Limit.limit().count(1));
+        return last == null || last.isEmpty() ? EMPTY_STREAM_ID : last.getFirst().getId().getValue();
+    }
+
+    private static int compare(String left, String right) {
+        RecordId l = RecordId.of(left);
+        RecordId r = RecordId.of(right);
+        int byTime = Long.compare(l.getTimestamp(), r.getTimestamp());
+        return byTime != 0 ? byTime : Long.compare(l.getSequence(), r.getSequence());
+    }
+
+    private String wakeKey(int reader) {
+        return "room:log:wake:" + instanceId + ":" + reader;
+    }
+
+    private static String logKey(String roomId) {
+        return "room:" + roomId + ":log";
+    }
+
+    private static String roomIdOf(String logKey) {
+        return logKey.substring("room:".length(), logKey.length() - ":log".length());
+    }
+}
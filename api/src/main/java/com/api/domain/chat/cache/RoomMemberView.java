@@ -0,0 +1,56 @@
+package com.api.domain.chat.cache;
+
+import com.api.domain.chat.model.MemberDelta;
+import com.api.domain.user.model.RequestReadUserDTO;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 방의 회원 목록 뷰. username 기준으로 회원 레코드를 유지합니다.
+ * 워밍 전에 도착한 변경분은 보관했다가 Redis 스냅샷 적용 후 다시 적용합니다. (ADDED/REMOVED는 멱등)
+ */
+class RoomMemberView {
+    private final Map<String, RequestReadUserDTO> members = new LinkedHashMap<>();
+    private final List<MemberDelta> pending = new ArrayList<>();
+    private boolean warmed;
+
+    synchronized void apply(MemberDelta delta) {
+        if (!warmed) {
+            pending.add(delta);
+            return;
+        }
+        applyNow(delta);
+    }
+
+    synchronized boolean isWarmed() {
+        return warmed;
+    }
+
+    /**
+     * Redis 스냅샷으로 뷰를 채우고, 그동안 쌓인 변경분을 순서대로 적용합니다.
+     */
+    synchronized void warm(Collection<RequestReadUserDTO> snapshot) {
+        members.clear();
+        snapshot.forEach(member -> members.put(member.getUserName(), member));
+        pending.forEach(this::applyNow);
+        pending.clear();
+        warmed = true;
+    }
+
+    synchronized List<RequestReadUserDTO> snapshot() {
+        return List.copyOf(members.values());
+    }
+
+    private void applyNow(MemberDelta delta) {
+        String userName = delta.member().getUserName();
+        if (delta.action() == MemberDelta.Action.ADDED) {
+            members.put(userName, delta.member());
+        } else {
+            members.remove(userName);
+        }
+    }
+}
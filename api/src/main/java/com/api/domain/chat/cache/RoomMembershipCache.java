@@ -0,0 +1,73 @@
+package com.api.domain.chat.cache;
+
+import com.api.domain.chat.model.MemberDelta;
+import com.api.domain.user.model.RequestReadUserDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 이 노드가 호스팅하는 방의 회원 목록 캐시.
+ * 구독 경로로 수신한 JOIN/LEAVE/KICK 변경분으로 갱신되고, 처음 조회될 때 Redis room:members로 한 번 워밍합니다.
+ * 회원 목록 조회(/api/room/list, 입장 스냅샷)는 DB를 거치지 않고 이 캐시에서 처리합니다.
+ */
+@Component
+public class RoomMembershipCache {
+    private final Map<String, RoomMemberView> views = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public RoomMembershipCache(MeterRegistry meterRegistry) {
+        this.hitCounter = Counter.builder("chat.members.cache").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("chat.members.cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * 방 회원 뷰를 엽니다. (이 노드에서 방의 첫 세션 접속 시)
+     */
+    public void open(String roomId) {
+        views.computeIfAbsent(roomId, k -> new RoomMemberView());
+    }
+
+    /**
+     * 방 회원 뷰를 제거합니다. (이 노드에서 방의 마지막 세션 종료 시)
+     */
+    public void evict(String roomId) {
+        views.remove(roomId);
+    }
+
+    /**
+     * 구독 경로에서 수신한 회원 변경분을 반영합니다. 호스팅 중이 아닌 방은 무시합니다.
+     */
+    public void apply(String roomId, MemberDelta delta) {
+        RoomMemberView view = views.get(roomId);
+        if (view != null && delta != null && delta.member() != null) {
+            view.apply(delta);
+        }
+    }
+
+    /**
+     * 방 회원 목록을 반환합니다.
+     * 뷰가 아직 워밍되지 않았다면 loader(Redis)로 한 번 채운 뒤 반환하고, 호스팅 중이 아닌 방은 loader 결과를 그대로 반환합니다.
+     */
+    public List<RequestReadUserDTO> getMembers(String roomId, Supplier<List<RequestReadUserDTO>> loader) {
+        RoomMemberView view = views.get(roomId);
+        if (view == null) {
+            missCounter.increment();
+            return loader.get();
+        }
+
+        if (view.isWarmed()) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+            view.warm(loader.get());
+        }
+        return view.snapshot();
+    }
+}
@@ -0,0 +1,77 @@
+package com.api.domain.chat.cache;
+
+import com.api.config.properties.ChatHistoryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 이 노드가 호스팅하는 방의 최근 메시지 L1 캐시.
+ * 방의 첫 로컬 세션 접속 시 버퍼를 열고, 구독 경로에서 수신한 프레임으로 채우며, 마지막 세션이 나가면 제거합니다.
+ * 첫 입장 시 한 번만 Redis 히스토리로 워밍하고, 이후 입장은 메모리 복사로 처리합니다.
+ */
+@Slf4j
+@Component
+public class RoomRecentMessageCache {
+    private final ChatHistoryProperties chatHistoryProperties;
+    private final Map<String, RoomRecentMessageRing> rings = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public RoomRecentMessageCache(ChatHistoryProperties chatHistoryProperties, MeterRegistry meterRegistry) {
+        this.chatHistoryProperties = chatHistoryProperties;
+        this.hitCounter = Counter.builder("chat.history.cache").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("chat.history.cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    /**
+     * 방 버퍼를 엽니다. (이 노드에서 방의 첫 세션 접속 시)
+     */
+    public void open(String roomId) {
+        rings.computeIfAbsent(roomId, k -> new RoomRecentMessageRing(chatHistoryProperties.windowSize()));
+    }
+
+    /**
+     * 방 버퍼를 제거합니다. (이 노드에서 방의 마지막 세션 종료 시)
+     */
+    public void evict(String roomId) {
+        rings.remove(roomId);
+    }
+
+    /**
+     * 구독 경로에서 수신한 프레임을 방 버퍼에 추가합니다. 호스팅 중이 아닌 방은 무시합니다.
+     */
+    public void append(String roomId, byte[] frame) {
+        RoomRecentMessageRing ring = rings.get(roomId);
+        if (ring != null) {
+            ring.append(frame);
+        }
+    }
+
+    /**
+     * 최근 프레임을 최신순으로 반환합니다.
+     * 버퍼가 아직 워밍되지 않았다면 loader(Redis)로 한 번 채운 뒤 반환합니다.
+     */
+    public List<byte[]> getRecentFrames(String roomId, Supplier<List<byte[]>> loader) {
+        RoomRecentMessageRing ring = rings.get(roomId);
+        if (ring == null) {
+            missCounter.increment();
+            return loader.get();
+        }
+
+        if (ring.isWarmed()) {
+            hitCounter.increment();
+        } else {
+            missCounter.increment();
+            List<byte[]> loaded = loader.get();
+            ring.warm(loaded != null ? loaded : List.of());
+        }
+        return ring.snapshotNewestFirst();
+    }
+}
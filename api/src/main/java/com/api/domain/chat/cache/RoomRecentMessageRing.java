@@ -0,0 +1,94 @@
+package com.api.domain.chat.cache;
+
+import com.api.domain.chat.model.ChatMessageHeader;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 방 하나의 최근 메시지 프레임을 고정 크기로 보관하는 링 버퍼.
+ * 프레임은 Redis 히스토리와 같은 인코딩 바이트를 그대로 보관합니다.
+ */
+class RoomRecentMessageRing {
+    private final byte[][] frames;
+    private final long[] seqs;
+    private int head;
+    private int size;
+    private boolean warmed;
+
+    RoomRecentMessageRing(int capacity) {
+        this.frames = new byte[capacity][];
+        this.seqs = new long[capacity];
+    }
+
+    /**
+     * 구독 경로에서 수신한 프레임을 추가합니다. 가득 차면 가장 오래된 프레임을 덮어씁니다.
+     */
+    synchronized void append(byte[] frame) {
+        Long seq = ChatMessageHeader.peek(frame).seq();
+        int tail = (head + size) % frames.length;
+        frames[tail] = frame;
+        seqs[tail] = seq != null ? seq : Long.MIN_VALUE;
+
+        if (size < frames.length) {
+            size++;
+        } else {
+            head = (head + 1) % frames.length;
+        }
+    }
+
+    synchronized boolean isWarmed() {
+        return warmed;
+    }
+
+    /**
+     * Redis에서 읽은 히스토리로 버퍼를 채웁니다.
+     * 구독 이후 이미 수신한 프레임이 있으면 그보다 오래된 시퀀스만 앞에 채웁니다.
+     * @param newestFirst Redis 히스토리 (최신순)
+     */
+    synchronized void warm(List<byte[]> newestFirst) {
+        if (warmed) {
+            return;
+        }
+
+        long oldestReceived = size > 0 ? seqs[head] : Long.MAX_VALUE;
+        List<byte[]> received = snapshotOldestFirst();
+
+        List<byte[]> merged = new ArrayList<>(frames.length);
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            byte[] frame = newestFirst.get(i);
+            Long seq = ChatMessageHeader.peek(frame).seq();
+            if (seq == null || seq < oldestReceived) {
+                merged.add(frame);
+            }
+        }
+        merged.addAll(received);
+
+        head = 0;
+        size = 0;
+        int from = Math.max(0, merged.size() - frames.length);
+        for (int i = from; i < merged.size(); i++) {
+            append(merged.get(i));
+        }
+        warmed = true;
+    }
+
+    /**
+     * 버퍼 내용을 최신순으로 복사해 반환합니다.
+     */
+    synchronized List<byte[]> snapshotNewestFirst() {
+        List<byte[]> result = new ArrayList<>(size);
+        for (int i = size - 1; i >= 0; i--) {
+            result.add(frames[(head + i) % frames.length]);
+        }
+        return result;
+    }
+
+    private List<byte[]> snapshotOldestFirst() {
+        List<byte[]> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(frames[(head + i) % frames.length]);
+        }
+        return result;
+    }
+}
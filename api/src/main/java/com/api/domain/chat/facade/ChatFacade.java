@@ -2,11 +2,13 @@ package com.api.domain.chat.facade;
 
 import com.api.common.annotation.Facade;
 import com.api.common.exception.UserForbiddenException;
+import com.api.domain.HistoryMessage.model.ResponseReadMessagePageDTO;
+import com.api.domain.HistoryMessage.service.ChatHistoryService;
 import com.api.domain.chat.model.ChatMessage;
 import com.api.domain.room.entity.RoomEntity;
 import com.api.domain.room.service.RoomHybridSyncService;
 import com.api.domain.room.service.RoomService;
-import com.api.domain.roomUser.entity.RoomUserEntity;
+import com.api.domain.roomUser.model.RoomMembershipChange;
 import com.api.domain.roomUser.service.RoomUserService;
 import com.api.domain.user.entity.UserEntity;
 import com.api.domain.user.model.RequestReadUserDTO;
@@ -14,6 +16,8 @@ import com.api.domain.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Facade
@@ -23,6 +27,7 @@ public class ChatFacade {
     private final RoomService roomService;
     private final RoomUserService roomUserService;
     private final RoomHybridSyncService roomHybridSyncService;
+    private final ChatHistoryService chatHistoryService;
 
     /**
      * 방의 현재 인원 수를 업데이트합니다.
@@ -50,56 +55,66 @@ public class ChatFacade {
     }
 
     /**
-     * 레디스에 저장된 채팅방의 과거 채팅 기록을 가져옵니다.
-     * 방 ID를 기준으로 채팅 메시지 리스트를 반환합니다.
+     * 입장 시 재생할 히스토리 윈도우를 하나의 HISTORY 프레임으로 가져옵니다.
+     * Redis 조회 1회, WebSocket 프레임 1개로 전달되며, resumeFrom이 있으면 그 이후 메시지만 담습니다.
      */
-    public List<ChatMessage> getAllChatHistory(String roomId) {
-        return roomHybridSyncService.getAllChatHistory(roomId);
+    public byte[] getChatHistoryFrame(String roomId, Long resumeFrom) {
+        return roomHybridSyncService.getChatHistoryFrame(roomId, resumeFrom);
     }
 
     /**
-     * Redis에서 가져온 회원 ID 리스트를 바탕으로,
-     * DB에서 username, imageUrl 등의 상세 정보를 조회해 DTO로 반환합니다.
+     * 방의 before(메시지 ID)보다 오래된 메시지를 limit개 반환합니다.
+     * Redis 히스토리 윈도우에서 먼저 채우고, 모자라면 윈도우의 가장 오래된 ID부터 MySQL keyset 조회로 이어서 채웁니다.
+     * 다음 페이지 존재 여부를 알기 위해 limit + 1개까지 조회합니다.
+     */
+    public ResponseReadMessagePageDTO getMessagesBefore(String roomId, Long before, int limit) {
+        List<ChatMessage> newestFirst = new ArrayList<>(roomHybridSyncService.getRecentMessagesBefore(roomId, before, limit + 1));
+
+        if (newestFirst.size() <= limit) {
+            Long cursor = newestFirst.isEmpty() ? before : newestFirst.get(newestFirst.size() - 1).getId();
+            newestFirst.addAll(chatHistoryService.findMessagesBefore(roomId, cursor, limit + 1 - newestFirst.size()));
+        }
+
+        boolean hasNext = newestFirst.size() > limit;
+        List<ChatMessage> page = new ArrayList<>(newestFirst.subList(0, Math.min(limit, newestFirst.size())));
+        Long nextCursor = page.isEmpty() ? null : page.get(page.size() - 1).getId();
+        Collections.reverse(page);
+
+        return new ResponseReadMessagePageDTO(page, nextCursor, hasNext);
+    }
+
+    /**
+     * 방 회원 목록을 상세 정보(DTO)로 반환합니다.
+     * 노드 로컬 회원 캐시(Redis room:members로 워밍, JOIN/LEAVE/KICK 변경분으로 갱신)에서 조회하며 DB는 거치지 않습니다.
      */
     public List<RequestReadUserDTO> getRoomMembersDetailed(String roomId) {
-        RoomEntity roomById = roomService.getRoomById(roomId);
+        return roomHybridSyncService.getRoomMembers(roomId);
+    }
 
-        return roomUserService.getUsersInRoom(roomById);
+    /**
+     * 퇴장한 회원을 Redis 방 회원 목록에서 제거합니다.
+     */
+    public void removeRoomMember(ChatMessage message) {
+        roomHybridSyncService.removeRoomMember(message);
     }
 
     public void addRoomEvent(ChatMessage message) {
         roomHybridSyncService.addRoomEvent(message);
     }
 
-    @Transactional
-    public boolean updateRoomUser(ChatMessage message) {
-        UserEntity user = userService.getUserByName(message.getSender());
-        RoomEntity room = roomService.getRoomById(message.getRoomId());
-
-        if (message.getType() == ChatMessage.MessageType.JOIN) {
-            // JOIN
-            roomUserService.saveRoomUser(RoomUserEntity.builder()
-                    .room(room)
-                    .user(user)
-                    .build());
-
-            return true;
-        } else if (message.getType() == ChatMessage.MessageType.LEAVE) {
-            // LEAVE → leave true 처리
-            roomUserService.leaveRoomUser(room, user);
-
-            return true;
-        }
-        return false;
+    /**
+     * 방 이벤트 배치를 방/사용자별 최종 상태로 합쳐 room_user에 한 번에 반영합니다.
+     * @return 반영한 (방, 사용자) 변경 수
+     */
+    public int applyRoomEvents(List<RoomMembershipChange.Event> events) {
+        return roomUserService.applyMembershipChanges(RoomMembershipChange.coalesce(events));
     }
 
     /**
      *  채팅방 인원 리스트를 조회합니다.
      */
     public List<RequestReadUserDTO> getRoomUserList(Long roomId) {
-        RoomEntity room = roomService.getRoomById(String.valueOf(roomId));
-
-        return roomUserService.getRoomUserList(room);
+        return roomHybridSyncService.getRoomMembers(String.valueOf(roomId));
     }
 
     /**
@@ -2,16 +2,14 @@ package com.api.domain.chat.model;
 
 import com.api.domain.user.model.RequestReadUserDTO;
 import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.io.IOException;
 import java.io.Serial;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Getter
@@ -19,19 +17,29 @@ import java.util.List;
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ChatMessage implements Serializable {
-    private static final ObjectMapper mapper = new ObjectMapper();
-
     @Serial
     private static final long serialVersionUID = 1L;
 
-    public enum MessageType { CHAT, JOIN, LEAVE, KICK }
+    // HISTORY, MEMBERS는 입장 시 히스토리 윈도우/회원 스냅샷을 한 프레임으로 보낼 때만 사용
+    public enum MessageType { CHAT, JOIN, LEAVE, KICK, HISTORY, MEMBERS }
 
     private MessageType type;
     private String sender;
     private String content;
     private String roomId;
 
-    // 특정 상황에만 리스트를 반환
+    // 발행 시점에 서버가 부여하는 메시지 ID(시간 정렬 64비트, history_message.id와 동일)
+    private Long id;
+
+    // 발행 시점에 서버가 부여하는 방별 단조 증가 시퀀스와 서버 시각(epoch millis)
+    private Long seq;
+    private Long timestamp;
+
+    // JOIN/LEAVE/KICK 시 회원 목록 변경분
+    @Setter
+    private MemberDelta memberDelta;
+
+    // 입장 시 MEMBERS 스냅샷에만 전체 리스트를 반환
     @Setter
     private List<RequestReadUserDTO> currentUserList;
 
@@ -42,34 +50,38 @@ public class ChatMessage implements Serializable {
         this.roomId = roomId;
     }
 
+    /**
+     * 발행 시점에 메시지 ID를 부여합니다. 영속화 시 history_message.id로 그대로 사용됩니다.
+     */
+    public void assignId(long id) {
+        this.id = id;
+    }
+
+    /**
+     * 발행 시점의 서버 시각을 부여합니다.
+     */
+    public void assignTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * 발행 스크립트가 부여한 방별 시퀀스를 반영합니다.
+     */
+    public void assignSeq(long seq) {
+        this.seq = seq;
+    }
+
     /**
      * 이 ChatMessage 객체를 JSON 문자열로 변환합니다.
      */
     public String toJson() {
-        try {
-            return mapper.writeValueAsString(this);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("ChatMessage toJson 실패", e);
-        }
+        return new String(ChatMessageCodec.encode(this), StandardCharsets.UTF_8);
     }
 
     /**
      * 전달된 JSON 문자열을 ChatMessage 객체로 파싱합니다.
      */
     public static ChatMessage fromJson(String json) {
-        try {
-            // 입력이 따옴표로 감싸진 JSON 문자열인지 확인
-            if (json.startsWith("\"") && json.endsWith("\"")) {
-                // 먼저 문자열 내의 이스케이프된 JSON을 추출
-                String unescapedJson = mapper.readValue(json, String.class);
-                // 추출된 실제 JSON을 ChatMessage 객체로 변환
-                return mapper.readValue(unescapedJson, ChatMessage.class);
-            } else {
-                // 일반적인 JSON 직접 변환
-                return mapper.readValue(json, ChatMessage.class);
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("ChatMessage fromJson 실패: " + json, e);
-        }
+        return ChatMessageCodec.decode(json);
     }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.api.domain.chat.model;
+
+import com.api.domain.user.model.RequestReadUserDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * ChatMessage의 유일한 JSON 인코딩/디코딩 지점.
+ * Pub/Sub 프레임, Redis 히스토리, WebSocket 프레임이 모두 같은 바이트 표현을 공유하므로
+ * 메시지는 발행 시점에 정확히 한 번만 인코딩됩니다.
+ */
+public final class ChatMessageCodec {
+    private static final ObjectMapper mapper = new ObjectMapper();
+
+    private ChatMessageCodec() {
+    }
+
+    /**
+     * ChatMessage를 UTF-8 JSON 바이트로 인코딩합니다.
+     */
+    public static byte[] encode(ChatMessage message) {
+        try {
+            return mapper.writeValueAsBytes(message);
+        } catch (IOException e) {
+            throw new RuntimeException("ChatMessage 인코딩 실패", e);
+        }
+    }
+
+    /**
+     * 이미 인코딩된 메시지들을 재파싱 없이 하나의 HISTORY 프레임으로 묶습니다.
+     * {"type":"HISTORY","roomId":"..","messages":[{..},{..}]}
+     * @param frames 오래된 순으로 정렬된 인코딩 메시지
+     */
+    public static byte[] encodeHistory(String roomId, List<byte[]> frames) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(64 + frames.stream().mapToInt(f -> f.length + 1).sum());
+            out.write("{\"type\":\"HISTORY\",\"roomId\":".getBytes(StandardCharsets.UTF_8));
+            out.write(mapper.writeValueAsBytes(roomId));
+            out.write(",\"messages\":[".getBytes(StandardCharsets.UTF_8));
+            for (int i = 0; i < frames.size(); i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.write(frames.get(i));
+            }
+            out.write("]}".getBytes(StandardCharsets.UTF_8));
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException("HISTORY 프레임 인코딩 실패", e);
+        }
+    }
+
+    /**
+     * UTF-8 JSON 바이트를 ChatMessage로 디코딩합니다.
+     */
+    public static ChatMessage decode(byte[] json) {
+        try {
+            return mapper.readValue(json, ChatMessage.class);
+        } catch (IOException e) {
+            throw new RuntimeException("ChatMessage 디코딩 실패: " + new String(json, StandardCharsets.UTF_8), e);
+        }
+    }
+
+    /**
+     * 회원 변경분의 회원 레코드를 JSON 문자열로 인코딩합니다. (Redis 방 회원 프로필 저장용)
+     */
+    public static String encodeMember(RequestReadUserDTO member) {
+        try {
+            return mapper.writeValueAsString(member);
+        } catch (IOException e) {
+            throw new RuntimeException("회원 레코드 인코딩 실패", e);
+        }
+    }
+
+    /**
+     * JSON 문자열을 회원 레코드로 디코딩합니다.
+     */
+    public static RequestReadUserDTO decodeMember(String json) {
+        try {
+            return mapper.readValue(json, RequestReadUserDTO.class);
+        } catch (IOException e) {
+            throw new RuntimeException("회원 레코드 디코딩 실패: " + json, e);
+        }
+    }
+
+    /**
+     * JSON 문자열을 ChatMessage로 디코딩합니다.
+     */
+    public static ChatMessage decode(String json) {
+        try {
+            return mapper.readValue(json, ChatMessage.class);
+        } catch (IOException e) {
+            throw new RuntimeException("ChatMessage 디코딩 실패: " + json, e);
+        }
+    }
+}
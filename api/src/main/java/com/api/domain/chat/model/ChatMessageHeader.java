@@ -0,0 +1,52 @@
+package com.api.domain.chat.model;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+
+/**
+ * 전체 역직렬화 없이 JSON 프레임에서 라우팅에 필요한 type, roomId, seq만 읽어낸 결과.
+ */
+public record ChatMessageHeader(
+        ChatMessage.MessageType type,
+        String roomId,
+        Long seq
+) {
+    private static final JsonFactory factory = new JsonFactory();
+
+    /**
+     * 최상위 필드만 순회하며 type, roomId, seq를 찾으면 즉시 중단합니다.
+     * currentUserList 같은 하위 구조는 건너뜁니다.
+     */
+    public static ChatMessageHeader peek(byte[] json) {
+        ChatMessage.MessageType type = null;
+        String roomId = null;
+        Long seq = null;
+
+        try (JsonParser parser = factory.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("JSON 객체가 아닙니다.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME && (type == null || roomId == null || seq == null)) {
+                String field = parser.currentName();
+                parser.nextToken();
+
+                if ("type".equals(field)) {
+                    type = ChatMessage.MessageType.valueOf(parser.getText());
+                } else if ("roomId".equals(field)) {
+                    roomId = parser.getText();
+                } else if ("seq".equals(field)) {
+                    seq = parser.getLongValue();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("ChatMessage header 파싱 실패", e);
+        }
+
+        return new ChatMessageHeader(type, roomId, seq);
+    }
+}
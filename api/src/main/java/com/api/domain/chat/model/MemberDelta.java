@@ -0,0 +1,22 @@
+package com.api.domain.chat.model;
+
+import com.api.domain.user.model.RequestReadUserDTO;
+
+/**
+ * JOIN/LEAVE/KICK 메시지에 실리는 방 회원 목록 변경분.
+ * 발행 노드에서 한 번만 계산되며, 클라이언트는 입장 시 받은 MEMBERS 스냅샷에 이 변경분을 적용합니다.
+ */
+public record MemberDelta(
+        Action action,
+        RequestReadUserDTO member
+) {
+    public enum Action { ADDED, REMOVED }
+
+    public static MemberDelta added(RequestReadUserDTO member) {
+        return new MemberDelta(Action.ADDED, member);
+    }
+
+    public static MemberDelta removed(RequestReadUserDTO member) {
+        return new MemberDelta(Action.REMOVED, member);
+    }
+}
@@ -0,0 +1,18 @@
+package com.api.domain.chat.model;
+
+/**
+ * room:events dead-letter 엔트리 (관리자 조회용)
+ * @param id dead-letter 스트림 엔트리 ID
+ * @param sourceId 원래 room:events 엔트리 ID
+ * @param deliveries 포기할 때까지의 전달 횟수
+ * @param deadAt dead-letter로 이동한 시각
+ * @param frame 원래 이벤트 프레임 (ChatMessageCodec JSON)
+ */
+public record RoomEventDeadLetterDTO(
+        String id,
+        String sourceId,
+        long deliveries,
+        String deadAt,
+        String frame
+) {
+}
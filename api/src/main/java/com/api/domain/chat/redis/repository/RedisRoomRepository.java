@@ -1,43 +1,45 @@
 package com.api.domain.chat.redis.repository;
 
+import com.api.common.utils.ChatChannelUtil;
+import com.api.config.properties.ChatHistoryProperties;
+import com.api.config.properties.RoomEventProperties;
 import com.api.domain.chat.model.ChatMessage;
+import com.api.domain.chat.model.ChatMessageCodec;
+import com.api.domain.chat.model.MemberDelta;
+import com.api.domain.user.model.RequestReadUserDTO;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.connection.stream.ObjectRecord;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.StreamRecords;
-import org.springframework.data.redis.core.ListOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class RedisRoomRepository {
-    private final RedisTemplate<String, ChatMessage> redisTemplate;
     private final RedisTemplate<String, String> allowanceRedisTemplate;
     private final RedisTemplate<String, String> stringRedisTemplate;
+    private final RedisTemplate<String, byte[]> chatPubSubTemplate;
     private final RedisScript<Long> roomAllowanceScript;
+    private final ChatHistoryProperties chatHistoryProperties;
+    private final RoomEventProperties roomEventProperties;
 
     /**
-     * 과거 채팅 기록을 Redis List에서 가져옵니다.
+     * 히스토리 윈도우를 디코딩 없이 인코딩된 바이트 그대로 가져옵니다. (LRANGE 1회, 최신순)
      */
-    public List<ChatMessage> getChatHistory(String roomId, int offset, int limit) {
-        ListOperations<String, ChatMessage> ops = redisTemplate.opsForList();
+    public List<byte[]> getChatHistoryFrames(String roomId) {
         String historyKey = "chat_history:" + roomId;
-
-        // Redis List에서 offset부터 limit까지의 메시지를 가져옴
-        return ops.range(historyKey, offset, offset + limit - 1);
-    }
-
-    /**
-     * 과거 채팅 기록을 Redis List 모두 가져옵니다.
-     */
-    public List<ChatMessage> getAllChatHistory(String roomId) {
-        return this.getChatHistory(roomId, 0, 0);
+        return chatPubSubTemplate.opsForList().range(historyKey, 0, chatHistoryProperties.windowSize() - 1);
     }
 
     /**
@@ -52,26 +54,34 @@ public class RedisRoomRepository {
 
     /**
      * 방에 인원 목록 갱신
+     * 회원 변경분이 있으면 room:member:profiles에 회원 레코드도 함께 반영해, 회원 목록을 DB 없이 복원할 수 있게 합니다.
      */
     public int switchRoomAndGetCurrentCapacity(ChatMessage message) {
         String roomKey = "room:members:" + message.getRoomId();
+        String profileKey = "room:member:profiles:" + message.getRoomId();
+        MemberDelta delta = message.getMemberDelta();
         String userId  = message.getSender();  // 혹은 userId 필드
 
         switch (message.getType()) {
             case JOIN:
                 // JOIN → 멤버 셋에 추가
                 stringRedisTemplate.opsForSet().add(roomKey, userId);
+                if (delta != null) {
+                    stringRedisTemplate.opsForHash().put(profileKey, userId, ChatMessageCodec.encodeMember(delta.member()));
+                }
                 break;
 
             case LEAVE:
                 // LEAVE → 멤버 셋에서 제거
                 stringRedisTemplate.opsForSet().remove(roomKey, userId);
+                stringRedisTemplate.opsForHash().delete(profileKey, userId);
                 break;
 
             case KICK:
-                // KICK → 멤버 셋에서 제거
-                String kickUserId = message.getContent();
+                // KICK → 멤버 셋에서 제거 (content는 안내 문구로 바뀌므로 변경분의 username 사용)
+                String kickUserId = delta != null ? delta.member().getUserName() : message.getContent();
                 stringRedisTemplate.opsForSet().remove(roomKey, kickUserId);
+                stringRedisTemplate.opsForHash().delete(profileKey, kickUserId);
                 break;
 
             default:
@@ -84,6 +94,29 @@ public class RedisRoomRepository {
         return (count != null ? count.intValue() : 0);
     }
 
+    /**
+     * 방 회원 목록을 Redis에서 복원합니다. (SMEMBERS + HMGET)
+     * 프로필이 없는 회원은 username만 담아 반환합니다.
+     */
+    public List<RequestReadUserDTO> getRoomMembers(String roomId) {
+        Set<String> userNames = stringRedisTemplate.opsForSet().members("room:members:" + roomId);
+        if (userNames == null || userNames.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> fields = new ArrayList<>(userNames);
+        List<Object> profiles = stringRedisTemplate.opsForHash().multiGet("room:member:profiles:" + roomId, fields);
+
+        List<RequestReadUserDTO> members = new ArrayList<>(fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            Object profile = profiles.get(i);
+            members.add(profile != null
+                    ? ChatMessageCodec.decodeMember(profile.toString())
+                    : RequestReadUserDTO.builder().userName(fields.get(i).toString()).build());
+        }
+        return members;
+    }
+
     /**
      * 현재 roomId에서 userId가 존재하는지 확인
      */
@@ -117,6 +150,7 @@ public class RedisRoomRepository {
      */
     public void deleteRoom(long roomId) {
         allowanceRedisTemplate.delete("room:allowance:" + roomId);
+        stringRedisTemplate.delete(List.of("room:members:" + roomId, "room:member:profiles:" + roomId));
     }
 
     /**
@@ -130,18 +164,17 @@ public class RedisRoomRepository {
     }
 
     /**
-     * 방 이벤트를 Redis Stream에 ObjectRecord로 추가합니다.
+     * 방 이벤트를 Redis Stream에 추가합니다.
+     * 메시지는 ChatMessageCodec JSON 프레임 하나(frame 필드)로 저장해, 컨슈머가 같은 코덱으로 그대로 복원합니다.
+     * MAXLEN ~ 은 안전 상한이며, 평소 보관 길이는 RoomEventCompactor가 ACK된 엔트리만 잘라 유지합니다.
      */
     public void addRoomEvent(ChatMessage message) {
-        String streamKey = "room:events";
-
-        // ChatMessage 객체 자체를 레코드 값으로 직렬화해서 저장
-        ObjectRecord<String, ChatMessage> record = StreamRecords
-                .objectBacked(message)          // V 타입이 ChatMessage
-                .withStreamKey(streamKey);      // 스트림 키 지정
+        MapRecord<String, String, String> record = StreamRecords
+                .string(Map.of(ChatChannelUtil.STREAM_FRAME_FIELD, new String(ChatMessageCodec.encode(message), StandardCharsets.UTF_8)))
+                .withStreamKey(ChatChannelUtil.ROOM_EVENTS_STREAM_KEY);
 
-        // RedisTemplate<String,ChatMessage>의 StreamOperations 사용
-        redisTemplate.opsForStream().add(record);
+        stringRedisTemplate.opsForStream().add(record,
+                XAddOptions.maxlen(roomEventProperties.maxLen()).approximateTrimming(true));
     }
 
     public String getThumbnail(long roomId) {
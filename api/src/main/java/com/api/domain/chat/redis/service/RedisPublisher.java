@@ -1,37 +1,50 @@
 package com.api.domain.chat.redis.service;
 
-import com.api.domain.HistoryMessage.service.ChatHistoryService;
+import com.api.common.id.IdGenerator;
+import com.api.common.utils.ChatChannelUtil;
+import com.api.config.properties.ChatHistoryProperties;
 import com.api.domain.chat.model.ChatMessage;
+import com.api.domain.chat.model.ChatMessageCodec;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.ListOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class RedisPublisher {
-    private final ChannelTopic topic;
-    private final RedisTemplate<String, ChatMessage> redisTemplate;
-    private final ChatHistoryService persistenceService;
-
-    // Redis에 채팅방별 몇개의 데이터를 저장할지 여부
-    private static final int MAX_HISTORY_SIZE = 100;
+    private final RedisTemplate<String, byte[]> chatPubSubTemplate;
+    private final RedisScript<Long> chatPublishScript;
+    private final ChatHistoryProperties chatHistoryProperties;
+    private final IdGenerator idGenerator;
 
     /**
-     * 채팅 메시지를 Redis Pub/Sub 토픽에 발행하고, 룸별 히스토리를 Redis List에 저장합니다.
+     * 채팅 메시지를 방별 Redis Pub/Sub 채널(chat:room:{roomId})에 발행하고, 룸별 히스토리를 Redis List에 저장합니다.
+     * 시퀀스 부여(INCR), PUBLISH, LPUSH, LTRIM, 영속화 스트림 XADD를 Lua 스크립트 하나로 실행하여 메시지당 Redis 왕복은 1회입니다.
+     * MySQL 영속화는 ChatHistoryBatchWriter가 chat:persist 스트림을 배치로 소비하여 처리합니다.
      */
     public void publish(ChatMessage message) {
-        // 1) 메시지를 JSON 문자열로 변환해 토픽으로 발행
-        redisTemplate.convertAndSend(topic.getTopic(), message.toJson());
+        // 메시지는 여기서 한 번만 인코딩 (seq는 스크립트가 프레임 맨 앞에 삽입)
+        message.assignId(idGenerator.nextId());
+        message.assignTimestamp(System.currentTimeMillis());
+        byte[] frame = ChatMessageCodec.encode(message);
 
-        // 2) 룸별 채팅 기록을 왼쪽으로 push하고, 최대 100개까지만 보관
-        ListOperations<String, ChatMessage> ops = redisTemplate.opsForList();
-        String historyKey = "chat_history:" + message.getRoomId();
-        ops.leftPush(historyKey, message);
-        ops.trim(historyKey, 0, MAX_HISTORY_SIZE - 1);
+        String roomId = message.getRoomId();
+        List<String> keys = List.of(
+                "chat_seq:" + roomId,
+                ChatChannelUtil.roomTopic(roomId).getTopic(),
+                "chat_history:" + roomId,
+                ChatChannelUtil.PERSIST_STREAM_KEY
+        );
+        byte[] windowSize = String.valueOf(chatHistoryProperties.windowSize()).getBytes(StandardCharsets.UTF_8);
 
-        // 3) 비동기 MySQL 영속화
-        persistenceService.asyncPersistChatHistory(message);
+        // 방 채널 발행 + 히스토리 적재 + 영속화 스트림 적재를 한 번의 왕복으로 원자 실행
+        Long seq = chatPubSubTemplate.execute(chatPublishScript, keys, frame, windowSize);
+        if (seq != null) {
+            message.assignSeq(seq);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,32 +1,53 @@
 package com.api.domain.chat.redis.service;
 
+import com.api.domain.chat.cache.RoomMembershipCache;
+import com.api.domain.chat.cache.RoomRecentMessageCache;
 import com.api.domain.chat.model.ChatMessage;
+import com.api.domain.chat.model.ChatMessageCodec;
+import com.api.domain.chat.model.ChatMessageHeader;
 import com.api.domain.chat.websocket.handler.ChatWebSocketHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.stereotype.Service;
 
-import java.nio.charset.StandardCharsets;
-
 @Service
 @RequiredArgsConstructor
 public class RedisSubscriber implements MessageListener {
     private final ChatWebSocketHandler webSocketHandler;
+    private final RoomRecentMessageCache roomRecentMessageCache;
+    private final RoomMembershipCache roomMembershipCache;
 
     /**
      * Redis 토픽에 발행된 메시지를 수신하면,
      * WebSocketHandler를 통해 모든 세션에 브로드캐스트합니다.
+     * 발행된 바디는 이미 최종 WebSocket 프레임(회원 변경분 포함)이므로 재파싱 없이 그대로 전달합니다.
      */
     @Override
     public void onMessage(Message message, byte[] pattern) {
-        // Redis에서 넘어온 메시지(바디)를 JSON 문자열로 읽어들임
-        String json = new String(message.getBody(), StandardCharsets.UTF_8);
-        ChatMessage chat = ChatMessage.fromJson(json);
-
-        // ChatWebSocketHandler에 브로드캐스트를 위임
-        webSocketHandler.broadcast(chat);
+        dispatch(message.getBody());
     }
 
+    /**
+     * 수신한 프레임을 방 세션에 전달합니다. (Pub/Sub, Stream 브로커 공용)
+     */
+    public void dispatch(byte[] body) {
+        ChatMessageHeader header = ChatMessageHeader.peek(body);
+
+        // 입장 시 재생할 수 있도록 원본 프레임을 방 L1 캐시에 적재
+        roomRecentMessageCache.append(header.roomId(), body);
 
-}
\ No newline at end of file
+        // JOIN/LEAVE/KICK → 회원 변경분을 방 회원 캐시에 반영 (빈도가 낮으므로 이때만 전체 파싱)
+        if (isMembershipEvent(header.type())) {
+            roomMembershipCache.apply(header.roomId(), ChatMessageCodec.decode(body).getMemberDelta());
+        }
+
+        webSocketHandler.broadcast(header, body);
+    }
+
+    private boolean isMembershipEvent(ChatMessage.MessageType type) {
+        return type == ChatMessage.MessageType.JOIN
+                || type == ChatMessage.MessageType.LEAVE
+                || type == ChatMessage.MessageType.KICK;
+    }
+}
@@ -0,0 +1,38 @@
+package com.api.domain.chat.redis.service;
+
+import com.api.common.utils.ChatChannelUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class RoomChannelSubscriptionManager {
+    private final RedisMessageListenerContainer redisContainer;
+    private final MessageListenerAdapter listenerAdapter;
+
+    // listenerAdapter → RedisSubscriber → ChatWebSocketHandler → 이 빈 순환을 끊기 위해 지연 주입
+    public RoomChannelSubscriptionManager(RedisMessageListenerContainer redisContainer,
+                                          @Lazy MessageListenerAdapter listenerAdapter) {
+        this.redisContainer = redisContainer;
+        this.listenerAdapter = listenerAdapter;
+    }
+
+    /**
+     * 이 노드에 방의 첫 세션이 접속했을 때 방 채널을 구독합니다.
+     */
+    public void subscribe(String roomId) {
+        redisContainer.addMessageListener(listenerAdapter, ChatChannelUtil.roomTopic(roomId));
+        log.debug("Subscribed room channel: {}", roomId);
+    }
+
+    /**
+     * 이 노드에서 방의 마지막 세션이 나갔을 때 방 채널 구독을 해제합니다.
+     */
+    public void unsubscribe(String roomId) {
+        redisContainer.removeMessageListener(listenerAdapter, ChatChannelUtil.roomTopic(roomId));
+        log.debug("Unsubscribed room channel: {}", roomId);
+    }
+}
@@ -0,0 +1,211 @@
+package com.api.domain.chat.redis.service;
+
+import com.api.common.utils.ChatChannelUtil;
+import com.api.config.properties.RoomEventProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * room:events 스트림 보관 정책 작업.
+ * XADD MAXLEN ~ 은 컨슈머가 멈춘 상황을 대비한 안전 상한일 뿐이므로, 평소 길이는 이 작업이 유지합니다.
+ * - 보관 기준: 최신 retainCount개 이내이면서 retainAge 이내인 엔트리만 남김
+ *   (개수 기준 ID는 엔트리를 읽지 않고 XINFO STREAM의 길이/첫·마지막 ID로 추정)
+ * - 안전 기준: 모든 컨슈머 그룹이 ACK한 엔트리(마지막 전달 ID 이전이면서 pending이 아닌 엔트리)까지만 XTRIM MINID로 잘라냄
+ * - dead-letter 스트림은 컨슈머 그룹이 없으므로 deadLetterRetainAge/deadLetterMaxLen 기준으로 정리
+ * - 스트림/dead-letter 길이와 메모리 사용량을 메트릭으로 노출
+ * - 정리는 토큰 락을 잡은 노드 하나만 수행하며, 락은 자신의 토큰일 때만 해제 (lockReleaseScript)
+ */
+@Slf4j
+@Component
+public class RoomEventCompactor {
+    private static final String LOCK_KEY = "lock:room:events:compact";
+    private static final List<String> STREAMS = List.of(
+            ChatChannelUtil.ROOM_EVENTS_STREAM_KEY, ChatChannelUtil.ROOM_EVENTS_DLQ_STREAM_KEY);
+    private static final Comparator<RecordId> ORDER = Comparator
+            .comparingLong(RecordId::getTimestamp)
+            .thenComparingLong(RecordId::getSequence);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisScript<Long> lockReleaseScript;
+    private final RoomEventProperties properties;
+
+    private final Map<String, AtomicLong> lengths = Map.of(
+            STREAMS.get(0), new AtomicLong(), STREAMS.get(1), new AtomicLong());
+    private final Map<String, AtomicLong> memory = Map.of(
+            STREAMS.get(0), new AtomicLong(), STREAMS.get(1), new AtomicLong());
+    private final Counter trimmed;
+
+    public RoomEventCompactor(
+            StringRedisTemplate stringRedisTemplate,
+            RedisScript<Long> lockReleaseScript,
+            RoomEventProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.lockReleaseScript = lockReleaseScript;
+        this.properties = properties;
+
+        for (String stream : STREAMS) {
+            Gauge.builder("room.events.stream.length", lengths.get(stream), AtomicLong::get)
+                    .tag("stream", stream)
+                    .register(meterRegistry);
+            Gauge.builder("room.events.stream.memory", memory.get(stream), AtomicLong::get)
+                    .tag("stream", stream)
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+        }
+        this.trimmed = Counter.builder("room.events.trimmed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${room.events.compact-interval:1m}")
+    public void compact() {
+        try {
+            // 메트릭은 모든 노드에서 갱신 (각 노드의 스크레이프가 같은 값을 보도록)
+            STREAMS.forEach(this::refreshMetrics);
+
+            // 작업이 락 TTL보다 오래 걸려 다른 노드가 락을 가져간 경우 그 락을 지우지 않도록 토큰으로 확인
+            String token = UUID.randomUUID().toString();
+            Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, Duration.ofMinutes(5));
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+
+            try {
+                trim();
+                trimDeadLetters();
+            } finally {
+                stringRedisTemplate.execute(lockReleaseScript, List.of(LOCK_KEY), token);
+            }
+        } catch (Exception e) {
+            // 스케줄러는 에러 발생 시 스레드가 멈추기 때문에 예외 처리 필요
+            log.error("room:events 스트림 압축 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private void trim() {
+        RecordId safe = acknowledgedBound();
+        RecordId target = retentionBound();
+        if (safe == null || target == null) {
+            return;
+        }
+
+        // 보관 기준이 더 멀리 자르려 해도 아직 ACK되지 않은 엔트리는 남김
+        RecordId minId = ORDER.compare(target, safe) <= 0 ? target : safe;
+        long removed = xtrim(ChatChannelUtil.ROOM_EVENTS_STREAM_KEY, "MINID", minId.getValue());
+
+        if (removed > 0) {
+            trimmed.increment(removed);
+            log.info("room:events 스트림 {}건 정리 (MINID={})", removed, minId);
+        }
+    }
+
+    /**
+     * dead-letter는 ACK 대상이 아니므로 보관 기간과 최대 길이로만 정리합니다.
+     */
+    private void trimDeadLetters() {
+        long cutoff = System.currentTimeMillis() - properties.deadLetterRetainAge().toMillis();
+        long removed = xtrim(ChatChannelUtil.ROOM_EVENTS_DLQ_STREAM_KEY, "MINID", RecordId.of(cutoff, 0).getValue())
+                + xtrim(ChatChannelUtil.ROOM_EVENTS_DLQ_STREAM_KEY, "MAXLEN", String.valueOf(properties.deadLetterMaxLen()));
+
+        if (removed > 0) {
+            log.warn("room:events:dlq 스트림 {}건 정리 (보관 기간/최대 길이 초과)", removed);
+        }
+    }
+
+    /**
+     * XTRIM {strategy} ~ {threshold}
+     * @return 삭제된 엔트리 수
+     */
+    private long xtrim(String stream, String strategy, String threshold) {
+        Long removed = stringRedisTemplate.execute((RedisCallback<Long>) connection -> (Long) connection.execute("XTRIM",
+                bytes(stream), bytes(strategy), bytes("~"), bytes(threshold)));
+        return removed != null ? removed : 0;
+    }
+
+    /**
+     * 모든 컨슈머 그룹이 ACK한 구간의 끝 (이 ID 미만은 잘라도 안전)
+     * 그룹별로 마지막 전달 ID와 가장 오래된 pending ID 중 작은 값을 구하고, 그룹 간 최솟값을 사용합니다.
+     * @return 그룹이 없으면 null (아무도 소비하지 않은 이벤트를 버리지 않도록 정리하지 않음)
+     */
+    private RecordId acknowledgedBound() {
+        StreamInfo.XInfoGroups groups = ops().groups(ChatChannelUtil.ROOM_EVENTS_STREAM_KEY);
+        if (groups == null || groups.isEmpty()) {
+            return null;
+        }
+
+        RecordId bound = null;
+        for (int i = 0; i < groups.size(); i++) {
+            StreamInfo.XInfoGroup group = groups.get(i);
+            RecordId candidate = RecordId.of(group.lastDeliveredId());
+
+            if (group.pendingCount() > 0) {
+                PendingMessagesSummary summary = ops().pending(ChatChannelUtil.ROOM_EVENTS_STREAM_KEY, group.groupName());
+                if (summary != null && summary.minRecordId() != null && ORDER.compare(summary.minRecordId(), candidate) < 0) {
+                    candidate = summary.minRecordId();
+                }
+            }
+            if (bound == null || ORDER.compare(candidate, bound) < 0) {
+                bound = candidate;
+            }
+        }
+        return bound;
+    }
+
+    /**
+     * 보관 정책상 남겨야 하는 가장 오래된 ID (개수 기준과 기간 기준 중 더 최신 쪽)
+     * 개수 기준은 최신 retainCount개를 읽는 대신, 첫/마지막 엔트리 사이에 ID가 고르게 분포한다고 보고
+     * 앞에서 (length - retainCount)번째 위치의 ID를 시각으로 추정합니다. (XINFO STREAM 한 번, XTRIM ~ 과 같은 근사)
+     */
+    private RecordId retentionBound() {
+        RecordId byAge = RecordId.of(System.currentTimeMillis() - properties.retainAge().toMillis(), 0);
+
+        StreamInfo.XInfoStream info = ops().info(ChatChannelUtil.ROOM_EVENTS_STREAM_KEY);
+        if (info == null || info.streamLength() <= properties.retainCount()
+                || info.firstEntryId() == null || info.lastEntryId() == null) {
+            return byAge;
+        }
+
+        long first = RecordId.of(info.firstEntryId()).getTimestamp();
+        long last = RecordId.of(info.lastEntryId()).getTimestamp();
+        double trimRatio = (double) (info.streamLength() - properties.retainCount()) / info.streamLength();
+        RecordId byCount = RecordId.of(first + (long) ((last - first) * trimRatio), 0);
+
+        return ORDER.compare(byCount, byAge) > 0 ? byCount : byAge;
+    }
+
+    private void refreshMetrics(String stream) {
+        Long size = ops().size(stream);
+        lengths.get(stream).set(size != null ? size : 0);
+
+        Long usage = stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+                (Long) connection.execute("MEMORY", bytes("USAGE"), bytes(stream)));
+        memory.get(stream).set(usage != null ? usage : 0);
+    }
+
+    private StreamOperations<String, Object, Object> ops() {
+        return stringRedisTemplate.opsForStream();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
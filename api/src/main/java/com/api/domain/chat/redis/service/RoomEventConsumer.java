@@ -0,0 +1,290 @@
+package com.api.domain.chat.redis.service;
+
+import com.api.common.utils.ChatChannelUtil;
+import com.api.config.properties.RoomEventProperties;
+import com.api.domain.chat.facade.ChatFacade;
+import com.api.domain.chat.model.ChatMessage;
+import com.api.domain.chat.model.ChatMessageCodec;
+import com.api.domain.chat.model.ChatMessageHeader;
+import com.api.domain.roomUser.model.RoomMembershipChange;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 방 입장/퇴장 이벤트(room:events)를 MySQL(room_user)에 반영하는 push 방식 컨슈머.
+ * StreamMessageListenerContainer에 같은 컨슈머 그룹으로 consumers개의 구독을 등록하고,
+ * 각 구독은 XREADGROUP BLOCK으로 대기하다 이벤트가 도착하는 즉시 방 ID로 정한 반영 스레드의 큐에 넣습니다.
+ * 반영 스레드(appliers개)는 자기 큐에서 최대 batchSize개를 모아 방/사용자별 최종 상태로 합친 뒤
+ * 하나의 트랜잭션으로 반영하고, 배치 전체를 XACK 한 번으로 확인합니다.
+ * - 같은 방의 이벤트는 항상 같은 반영 스레드가 처리하므로, 반영 스레드끼리 같은 (방, 사용자) 행을 두고 경합하지 않습니다.
+ * - DB 반영 처리량은 구독 수가 아니라 반영 스레드 수로 늘어납니다. (구독은 XREADGROUP 대기만 하므로 보통 1개로 충분)
+ * - 여러 구독이 읽은 이벤트가 섞여 순서가 바뀌어도, 반영은 스트림 ID 버전 기준이라 결과가 같습니다. (RoomMembershipChange)
+ * - 반영에 실패한 배치는 ACK하지 않으므로 pending으로 남습니다.
+ * - 큐가 가득 차면 구독 스레드가 대기하므로 Redis에서 더 읽어오지 않습니다. (배압)
+ * - 컨슈머 이름은 재시작 후에도 같도록 호스트명 기반으로 정합니다.
+ */
+@Slf4j
+@Component
+public class RoomEventConsumer {
+    public static final String GROUP = "room-events-group";
+
+    private static final Comparator<MapRecord<String, String, String>> STREAM_ORDER = Comparator
+            .comparingLong((MapRecord<String, String, String> record) -> record.getId().getTimestamp())
+            .thenComparingLong(record -> record.getId().getSequence());
+
+    private final ChatFacade chatFacade;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final StreamMessageListenerContainer<String, MapRecord<String, String, String>> roomEventListenerContainer;
+    private final RoomEventProperties properties;
+    private final String consumerName;
+    private final List<BlockingQueue<MapRecord<String, String, String>>> queues;
+
+    private final Timer lag;
+    private final DistributionSummary batchSize;
+    private final Counter applied;
+    private final Counter failed;
+
+    // 이 노드의 큐에 있거나 반영 중인 레코드 (복구 작업이 가져가지 않도록)
+    private final Set<RecordId> inFlight = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean running;
+    private final List<Thread> appliers = new ArrayList<>();
+
+    public RoomEventConsumer(
+            ChatFacade chatFacade,
+            StringRedisTemplate stringRedisTemplate,
+            StreamMessageListenerContainer<String, MapRecord<String, String, String>> roomEventListenerContainer,
+            RoomEventProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.chatFacade = chatFacade;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.roomEventListenerContainer = roomEventListenerContainer;
+        this.properties = properties;
+        this.consumerName = properties.consumerName().isBlank() ? hostName() : properties.consumerName();
+        this.queues = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, properties.appliers()); i++) {
+            queues.add(new LinkedBlockingQueue<>(properties.batchSize() * 2));
+        }
+
+        this.lag = Timer.builder("room.events.lag")
+                .description("room:events에 추가된 뒤 MySQL에 반영되기까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("room.events.batch.size")
+                .description("한 트랜잭션으로 반영한 레코드 수")
+                .register(meterRegistry);
+        this.applied = Counter.builder("room.events.processed").tag("result", "applied").register(meterRegistry);
+        this.failed = Counter.builder("room.events.processed").tag("result", "failed").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            stringRedisTemplate.opsForStream().createGroup(ChatChannelUtil.ROOM_EVENTS_STREAM_KEY, ReadOffset.from("0"), GROUP);
+        } catch (Exception ignored) {
+            // 그룹이 이미 존재하면 무시
+            log.info("Redis Stream Group already exists: {}", GROUP);
+        }
+
+        running = true;
+        for (int i = 0; i < queues.size(); i++) {
+            BlockingQueue<MapRecord<String, String, String>> queue = queues.get(i);
+            appliers.add(Thread.ofPlatform().name("RoomEventApply-" + i).start(() -> runLoop(queue)));
+        }
+
+        for (int i = 0; i < properties.consumers(); i++) {
+            StreamReadRequest<String> request = StreamReadRequest
+                    .builder(StreamOffset.create(ChatChannelUtil.ROOM_EVENTS_STREAM_KEY, ReadOffset.lastConsumed()))
+                    .consumer(Consumer.from(GROUP, consumerName + "-" + i))
+                    .autoAcknowledge(false)
+                    // 읽기 오류(연결 끊김 등)로 구독이 취소되지 않도록 로그만 남기고 계속 폴링
+                    .cancelOnError(e -> false)
+                    .errorHandler(e -> log.error("room:events 읽기 실패: {}", e.getMessage()))
+                    .build();
+            roomEventListenerContainer.register(request, this::enqueue);
+        }
+        roomEventListenerContainer.start();
+    }
+
+    /**
+     * 구독을 먼저 멈춘 뒤 큐에 남은 레코드까지 반영하고 종료합니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        roomEventListenerContainer.stop();
+        running = false;
+        for (Thread applier : appliers) {
+            applier.join();
+        }
+    }
+
+    private void enqueue(MapRecord<String, String, String> record) {
+        inFlight.add(record.getId());
+        try {
+            queues.get(shardOf(record)).put(record);
+        } catch (InterruptedException e) {
+            inFlight.remove(record.getId());
+            // 넣지 못한 레코드는 ACK되지 않은 채 pending으로 남음
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 같은 방의 이벤트가 항상 같은 반영 스레드로 가도록 방 ID로 큐를 정합니다.
+     * 헤더를 읽지 못한 레코드는 첫 큐로 보내 apply에서 실패 처리합니다.
+     */
+    private int shardOf(MapRecord<String, String, String> record) {
+        if (queues.size() == 1) {
+            return 0;
+        }
+        try {
+            String frame = record.getValue().get(ChatChannelUtil.STREAM_FRAME_FIELD);
+            String roomId = ChatMessageHeader.peek(frame.getBytes(StandardCharsets.UTF_8)).roomId();
+            return roomId == null ? 0 : Math.floorMod(roomId.hashCode(), queues.size());
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    private void runLoop(BlockingQueue<MapRecord<String, String, String>> queue) {
+        while (running || !queue.isEmpty()) {
+            try {
+                List<MapRecord<String, String, String>> batch = collect(queue);
+                try {
+                    if (!batch.isEmpty()) {
+                        apply(batch);
+                    }
+                } finally {
+                    // 실패한 레코드는 pending으로 남아 claimIdle 이후 복구 작업이 다시 반영
+                    batch.forEach(record -> inFlight.remove(record.getId()));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // 반영 스레드는 에러 발생 시 멈추기 때문에 예외 처리 필요
+                log.error("방 이벤트 반영 루프 오류: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 첫 레코드를 pollTimeout까지 기다린 뒤, batchSize가 찰 때까지 linger 동안 더 모읍니다.
+     */
+    private List<MapRecord<String, String, String>> collect(BlockingQueue<MapRecord<String, String, String>> queue) throws InterruptedException {
+        List<MapRecord<String, String, String>> batch = new ArrayList<>(properties.batchSize());
+
+        MapRecord<String, String, String> first = queue.poll(properties.pollTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return batch;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + properties.linger().toNanos();
+        while (batch.size() < properties.batchSize()) {
+            queue.drainTo(batch, properties.batchSize() - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= properties.batchSize() || remaining <= 0) {
+                break;
+            }
+            MapRecord<String, String, String> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    /**
+     * 배치를 하나의 트랜잭션으로 반영하고, 커밋된 뒤에만 한 번의 XACK으로 확인합니다.
+     * (RoomEventRecovery가 다시 가져온 pending 레코드도 같은 경로로 반영)
+     * @return 배치의 모든 레코드를 반영하고 ACK했다면 true
+     */
+    boolean apply(List<MapRecord<String, String, String>> batch) {
+        // 여러 구독이 읽은 레코드가 섞여 들어오므로 스트림 ID 순으로 정렬 (같은 방/사용자의 행 잠금 순서도 일정해짐)
+        batch = batch.stream().sorted(STREAM_ORDER).toList();
+        List<RoomMembershipChange.Event> events = new ArrayList<>(batch.size());
+        List<RecordId> ids = new ArrayList<>(batch.size());
+
+        for (MapRecord<String, String, String> record : batch) {
+            try {
+                ChatMessage message = ChatMessageCodec.decode(record.getValue().get(ChatChannelUtil.STREAM_FRAME_FIELD));
+                RecordId id = record.getId();
+                events.add(new RoomMembershipChange.Event(
+                        RoomMembershipChange.versionOf(id.getTimestamp(), id.getSequence()), message));
+                ids.add(record.getId());
+            } catch (Exception e) {
+                // 해석할 수 없는 레코드는 ACK하지 않고 pending으로 남김
+                failed.increment();
+                log.error("방 이벤트 해석 실패 (id={}): {}", record.getId(), e.getMessage());
+            }
+        }
+        if (ids.isEmpty()) {
+            return false;
+        }
+
+        try {
+            chatFacade.applyRoomEvents(events);
+        } catch (Exception e) {
+            failed.increment(ids.size());
+            log.error("방 이벤트 배치 반영 실패 (size={}): {}", ids.size(), e.getMessage(), e);
+            return false;
+        }
+
+        stringRedisTemplate.opsForStream().acknowledge(
+                ChatChannelUtil.ROOM_EVENTS_STREAM_KEY, GROUP, ids.toArray(RecordId[]::new));
+
+        long now = System.currentTimeMillis();
+        ids.forEach(id -> lag.record(now - id.getTimestamp(), TimeUnit.MILLISECONDS));
+        applied.increment(ids.size());
+        batchSize.record(ids.size());
+        return ids.size() == batch.size();
+    }
+
+    String getConsumerName() {
+        return consumerName;
+    }
+
+    /**
+     * 이 노드의 구독이 읽어 아직 큐에 있거나 반영 중인 레코드인지 여부
+     */
+    boolean isInFlight(RecordId id) {
+        return inFlight.contains(id);
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "room-events-" + ProcessHandle.current().pid();
+        }
+    }
+}
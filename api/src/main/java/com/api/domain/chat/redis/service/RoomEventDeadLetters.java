@@ -0,0 +1,113 @@
+package com.api.domain.chat.redis.service;
+
+import com.api.common.utils.ChatChannelUtil;
+import com.api.domain.chat.model.RoomEventDeadLetterDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재시도 한도를 넘긴 방 이벤트를 보관하는 dead-letter 스트림(room:events:dlq).
+ * 원래 프레임을 그대로 보관하므로, 원인을 해결한 뒤 room:events로 다시 넣어(replay) 처리할 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomEventDeadLetters {
+    private static final String SOURCE_ID_FIELD = "sourceId";
+    private static final String DELIVERIES_FIELD = "deliveries";
+    private static final String DEAD_AT_FIELD = "deadAt";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 레코드를 dead-letter 스트림에 추가하고 원래 스트림에서는 ACK 합니다.
+     */
+    public void moveToDeadLetter(MapRecord<String, String, String> record, long deliveries) {
+        String frame = record.getValue().getOrDefault(ChatChannelUtil.STREAM_FRAME_FIELD, "");
+
+        ops().add(StreamRecords.string(Map.of(
+                ChatChannelUtil.STREAM_FRAME_FIELD, frame,
+                SOURCE_ID_FIELD, record.getId().getValue(),
+                DELIVERIES_FIELD, String.valueOf(deliveries),
+                DEAD_AT_FIELD, Instant.now().toString()
+        )).withStreamKey(ChatChannelUtil.ROOM_EVENTS_DLQ_STREAM_KEY));
+        ops().acknowledge(ChatChannelUtil.ROOM_EVENTS_STREAM_KEY, RoomEventConsumer.GROUP, record.getId());
+
+        log.warn("방 이벤트 {}를 {}회 전달 후 dead-letter로 이동했습니다.", record.getId(), deliveries);
+    }
+
+    /**
+     * 최근 dead-letter를 최신순으로 최대 count개 조회합니다.
+     */
+    public List<RoomEventDeadLetterDTO> findRecent(int count) {
+        List<MapRecord<String, Object, Object>> records = ops().reverseRange(
+                ChatChannelUtil.ROOM_EVENTS_DLQ_STREAM_KEY, Range.unbounded(), Limit.limit().count(count));
+        if (records == null) {
+            return List.of();
+        }
+
+        return records.stream()
+                .map(record -> new RoomEventDeadLetterDTO(
+                        record.getId().getValue(),
+                        field(record, SOURCE_ID_FIELD),
+                        Long.parseLong(field(record, DELIVERIES_FIELD, "0")),
+                        field(record, DEAD_AT_FIELD),
+                        field(record, ChatChannelUtil.STREAM_FRAME_FIELD)
+                ))
+                .toList();
+    }
+
+    /**
+     * dead-letter의 프레임을 room:events에 다시 추가하고 dead-letter에서 삭제합니다.
+     * @return 해당 ID의 dead-letter가 있었다면 true
+     */
+    public boolean replay(String id) {
+        List<MapRecord<String, Object, Object>> records = ops().range(
+                ChatChannelUtil.ROOM_EVENTS_DLQ_STREAM_KEY, Range.closed(id, id));
+        if (records == null || records.isEmpty()) {
+            return false;
+        }
+
+        String frame = field(records.getFirst(), ChatChannelUtil.STREAM_FRAME_FIELD);
+        RecordId replayed = ops().add(StreamRecords.string(Map.of(ChatChannelUtil.STREAM_FRAME_FIELD, frame))
+                .withStreamKey(ChatChannelUtil.ROOM_EVENTS_STREAM_KEY));
+        ops().delete(ChatChannelUtil.ROOM_EVENTS_DLQ_STREAM_KEY, RecordId.of(id));
+
+        log.info("dead-letter {}를 room:events {}로 다시 추가했습니다.", id, replayed);
+        return true;
+    }
+
+    /**
+     * dead-letter를 재처리하지 않고 삭제합니다.
+     * @return 해당 ID의 dead-letter가 있었다면 true
+     */
+    public boolean discard(String id) {
+        Long deleted = ops().delete(ChatChannelUtil.ROOM_EVENTS_DLQ_STREAM_KEY, RecordId.of(id));
+        return deleted != null && deleted > 0;
+    }
+
+    private StreamOperations<String, Object, Object> ops() {
+        return stringRedisTemplate.opsForStream();
+    }
+
+    private static String field(MapRecord<String, Object, Object> record, String name) {
+        return field(record, name, "");
+    }
+
+    private static String field(MapRecord<String, Object, Object> record, String name, String defaultValue) {
+        Object value = record.getValue().get(name);
+        return value != null ? value.toString() : defaultValue;
+    }
+}
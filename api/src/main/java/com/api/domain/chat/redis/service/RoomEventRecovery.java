@@ -0,0 +1,128 @@
+package com.api.domain.chat.redis.service;
+
+import com.api.common.utils.ChatChannelUtil;
+import com.api.config.properties.RoomEventProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * room:events 컨슈머 그룹의 pending 엔트리 복구 작업.
+ * 노드가 XREADGROUP 후 ACK 전에 죽었거나 반영에 실패한 엔트리는 PEL에 남으므로,
+ * 주기적으로 XPENDING을 조회해 claimIdle 이상 방치된 엔트리를 XCLAIM으로 가져와 한 건씩 다시 반영합니다.
+ * - 한 건씩 반영하므로 문제 있는 레코드 하나가 다른 레코드의 복구를 막지 않습니다.
+ * - 이 노드의 큐에 있거나 반영 중인 엔트리(느린 트랜잭션 포함)는 가져오지 않습니다.
+ * - 다른 노드가 아직 반영 중인 엔트리를 가져와 두 번 반영하더라도, 반영이 버전 기준이라 결과가 같습니다.
+ * - 전달 횟수가 maxDeliveries에 도달한 엔트리는 dead-letter 스트림으로 이동합니다.
+ */
+@Slf4j
+@Component
+public class RoomEventRecovery {
+    private final RoomEventConsumer roomEventConsumer;
+    private final RoomEventDeadLetters roomEventDeadLetters;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RoomEventProperties properties;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final Counter recovered;
+    private final Counter deadLettered;
+
+    public RoomEventRecovery(
+            RoomEventConsumer roomEventConsumer,
+            RoomEventDeadLetters roomEventDeadLetters,
+            StringRedisTemplate stringRedisTemplate,
+            RoomEventProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.roomEventConsumer = roomEventConsumer;
+        this.roomEventDeadLetters = roomEventDeadLetters;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = properties;
+
+        Gauge.builder("room.events.pending", pending, AtomicLong::get)
+                .description("room:events 컨슈머 그룹에서 ACK되지 않은 엔트리 수")
+                .register(meterRegistry);
+        this.recovered = Counter.builder("room.events.recovered").register(meterRegistry);
+        this.deadLettered = Counter.builder("room.events.dead_lettered").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${room.events.recovery-interval:30s}")
+    public void recover() {
+        try {
+            PendingMessagesSummary summary = ops().pending(ChatChannelUtil.ROOM_EVENTS_STREAM_KEY, RoomEventConsumer.GROUP);
+            pending.set(summary != null ? summary.getTotalPendingMessages() : 0);
+            if (pending.get() == 0) {
+                return;
+            }
+
+            List<PendingMessage> stale = ops().pending(
+                            ChatChannelUtil.ROOM_EVENTS_STREAM_KEY, RoomEventConsumer.GROUP, Range.unbounded(), properties.batchSize())
+                    .stream()
+                    .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(properties.claimIdle()) >= 0)
+                    .filter(message -> !roomEventConsumer.isInFlight(message.getId()))
+                    .toList();
+            if (stale.isEmpty()) {
+                return;
+            }
+
+            Map<RecordId, Long> deliveries = new HashMap<>();
+            stale.forEach(message -> deliveries.put(message.getId(), message.getTotalDeliveryCount()));
+
+            List<MapRecord<String, Object, Object>> claimed = ops().claim(
+                    ChatChannelUtil.ROOM_EVENTS_STREAM_KEY,
+                    RoomEventConsumer.GROUP,
+                    roomEventConsumer.getConsumerName() + "-recovery",
+                    properties.claimIdle(),
+                    deliveries.keySet().toArray(RecordId[]::new)
+            );
+
+            Set<RecordId> found = new HashSet<>();
+            for (MapRecord<String, Object, Object> record : claimed) {
+                found.add(record.getId());
+                MapRecord<String, String, String> event = record.mapEntries(
+                        entry -> Map.entry(String.valueOf(entry.getKey()), String.valueOf(entry.getValue())));
+
+                long delivered = deliveries.getOrDefault(record.getId(), 0L);
+                if (delivered >= properties.maxDeliveries()) {
+                    roomEventDeadLetters.moveToDeadLetter(event, delivered);
+                    deadLettered.increment();
+                } else if (roomEventConsumer.apply(List.of(event))) {
+                    recovered.increment();
+                }
+            }
+
+            // XCLAIM 결과에 없는 엔트리는 이미 스트림에서 삭제된 것이므로 PEL에서만 제거
+            RecordId[] missing = deliveries.keySet().stream()
+                    .filter(id -> !found.contains(id))
+                    .toArray(RecordId[]::new);
+            if (missing.length > 0) {
+                ops().acknowledge(ChatChannelUtil.ROOM_EVENTS_STREAM_KEY, RoomEventConsumer.GROUP, missing);
+            }
+            log.info("방 이벤트 pending {}건 복구 시도 (claim={}, 유실={})", stale.size(), claimed.size(), missing.length);
+        } catch (Exception e) {
+            // 스케줄러는 에러 발생 시 스레드가 멈추기 때문에 예외 처리 필요
+            log.error("방 이벤트 pending 복구 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private StreamOperations<String, Object, Object> ops() {
+        return stringRedisTemplate.opsForStream();
+    }
+}
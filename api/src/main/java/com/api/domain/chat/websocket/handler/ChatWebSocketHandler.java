@@ -1,10 +1,18 @@
 package com.api.domain.chat.websocket.handler;
 
 import com.api.common.utils.SocketSessionUtil;
+import com.api.domain.chat.broker.ChatBroker;
+import com.api.domain.chat.cache.RoomMembershipCache;
+import com.api.domain.chat.cache.RoomRecentMessageCache;
 import com.api.domain.chat.facade.ChatFacade;
 import com.api.domain.chat.model.ChatMessage;
-import com.api.domain.chat.redis.service.RedisPublisher;
+import com.api.domain.chat.model.ChatMessageHeader;
+import com.api.domain.chat.model.MemberDelta;
+import com.api.domain.chat.websocket.session.BoundedOutboundSession;
+import com.api.domain.chat.websocket.session.OutboundSessionRegistry;
+import com.api.domain.chat.websocket.session.RoomFanOutEngine;
 import com.api.domain.room.exception.RoomFullException;
+import com.api.domain.user.model.RequestReadUserDTO;
 import com.api.security.model.CustomUserDetails;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -16,11 +24,11 @@ import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import java.io.IOException;
-import java.util.Collections;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Slf4j
 @Component
@@ -28,8 +36,16 @@ import java.util.concurrent.ConcurrentHashMap;
 public class ChatWebSocketHandler extends TextWebSocketHandler {
 
     private final ChatFacade chatFacade;
-    private final RedisPublisher redisPublisher;
-    private final Map<String, Set<WebSocketSession>> sessionsByRoom = new ConcurrentHashMap<>();
+    private final ChatBroker chatBroker;
+    private final RoomRecentMessageCache roomRecentMessageCache;
+    private final RoomMembershipCache roomMembershipCache;
+    private final OutboundSessionRegistry outboundSessionRegistry;
+    private final RoomFanOutEngine roomFanOutEngine;
+    private static final CompletableFuture<Void> HOSTED = CompletableFuture.completedFuture(null);
+
+    private final Map<String, Set<BoundedOutboundSession>> sessionsByRoom = new ConcurrentHashMap<>();
+    // 진행 중인 방 호스팅 전환 (완료되면 제거)
+    private final Map<String, CompletableFuture<Void>> hostingByRoom = new ConcurrentHashMap<>();
 
     /**
      * WebSocket 연결이 수립되면 호출되는 메서드.
@@ -49,18 +65,23 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
             throw new RoomFullException("방이 가득 찼습니다.");
         }
 
-        sessionsByRoom.computeIfAbsent(roomId, k -> ConcurrentHashMap.newKeySet())
-                .add(session);
+        // 1) 세션별 송신 버퍼로 감싸 방에 등록 (이후 모든 전송은 버퍼를 거침)
+        BoundedOutboundSession outbound = outboundSessionRegistry.register(session);
+        addSession(roomId, outbound);
 
-        // 2) Redis에서 히스토리 조회
-        List<ChatMessage> history = chatFacade.getAllChatHistory(roomId);
+        // 2) Redis에서 히스토리 윈도우를 HISTORY 프레임 하나로 조회하여 전송
+        //    재접속(resumeFrom)이면 마지막으로 받은 시퀀스 이후만 전송
+        Long resumeFrom = SocketSessionUtil.getResumeFromHandshake(session);
+        byte[] history = chatFacade.getChatHistoryFrame(roomId, resumeFrom);
 
-        if (history != null && !history.isEmpty()) {
-            Collections.reverse(history);
-            for (ChatMessage past : history) {
-                session.sendMessage(new TextMessage(past.toJson()));
-            }
+        if (history != null) {
+            outbound.sendMessage(new TextMessage(history));
         }
+
+        // 3) 현재 회원 목록 스냅샷은 입장 시 한 번만 전송하고, 이후에는 JOIN/LEAVE/KICK의 변경분으로 갱신
+        ChatMessage members = new ChatMessage(ChatMessage.MessageType.MEMBERS, null, null, roomId);
+        members.setCurrentUserList(chatFacade.getRoomMembersDetailed(roomId));
+        outbound.sendMessage(new TextMessage(members.toJson()));
     }
 
     /**
@@ -80,25 +101,34 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
             session.getAttributes().put("username", chat.getSender());
             session.getAttributes().put("roomId", chat.getRoomId());
 
-            // 2) 입장 메시지를 모든 클라이언트에 알림
+            // 2) 입장 메시지를 모든 클라이언트에 알림 (회원 변경분은 발행 노드에서 한 번만 계산)
             chat = switchChatMessageType(ChatMessage.MessageType.JOIN, chat.getSender(), chat.getRoomId());
+            chat.setMemberDelta(MemberDelta.added(
+                    RequestReadUserDTO.of(SocketSessionUtil.getUserDetailsFromSession(session).getUserEntity())
+            ));
+
+            // 3) 방 회원 반영 이벤트 적재 (모든 노드가 아닌 발행 노드에서 한 번만)
+            chatFacade.addRoomEvent(chat);
         } else if (chat.getType() == ChatMessage.MessageType.KICK) {
-            // 1) 강퇴 메시지 처리
+            // 1) 강퇴 메시지 처리 (content는 강퇴 대상 username)
+            String kickedUsername = chat.getContent();
             chat = switchChatMessageType(ChatMessage.MessageType.KICK, chat);
+            chat.setMemberDelta(MemberDelta.removed(
+                    RequestReadUserDTO.builder().userName(kickedUsername).build()
+            ));
 
             // DB 조회하며, 방장인지 확인
             chatFacade.kickUser(
                     Long.valueOf(chat.getRoomId()),
-                    chat.getSender(),
+                    kickedUsername,
                     session.getAttributes().get("username").toString(),
-                    chat.getContent()
+                    kickedUsername
             );
 
             // 2) 강퇴된 사용자의 세션을 종료
-            ChatMessage finalChat = chat;
             sessionsByRoom.getOrDefault(chat.getRoomId(), Set.of())
                     .stream()
-                    .filter(sess -> finalChat.getContent().equals(sess.getAttributes().get("username")))
+                    .filter(sess -> kickedUsername.equals(sess.getAttributes().get("username")))
                     .findFirst()
                     .ifPresent(sess -> {
                         try {
@@ -109,10 +139,12 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
                     });
         }
 
-        // TODO : 채팅방 인원 목록에 추가 및 RoomEntity를 업데이트 해준다.
-         chatFacade.updateRoomUserCount(chat);
+        // 채팅방 인원 목록에 추가 및 RoomEntity를 업데이트 (CHAT은 인원 변화가 없으므로 트랜잭션을 열지 않음)
+        if (chat.getType() != ChatMessage.MessageType.CHAT) {
+            chatFacade.updateRoomUserCount(chat);
+        }
 
-        redisPublisher.publish(chat);
+        chatBroker.publish(chat);
     }
 
     /**
@@ -125,11 +157,21 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
         String username = (String) session.getAttributes().get("username");
         String roomId = (String) session.getAttributes().get("roomId");
 
-        sessionsByRoom.getOrDefault(roomId, Set.of())
-                .remove(session);
+        // JOIN 이전에 끊긴 세션도 정리할 수 있도록 핸드셰이크의 roomId 기준으로 제거
+        BoundedOutboundSession outbound = outboundSessionRegistry.unregister(session.getId());
+        if (outbound != null) {
+            removeSession(SocketSessionUtil.getRoomIdFromHandshake(session), outbound);
+        }
 
         if (username != null) {
             ChatMessage leave = switchChatMessageType(ChatMessage.MessageType.LEAVE, username, roomId);
+            leave.setMemberDelta(MemberDelta.removed(
+                    RequestReadUserDTO.of(SocketSessionUtil.getUserDetailsFromSession(session).getUserEntity())
+            ));
+
+            // 방 회원 반영 이벤트 적재 및 Redis 방 회원 목록에서 제거 (발행 노드에서 한 번만)
+            chatFacade.addRoomEvent(leave);
+            chatFacade.removeRoomMember(leave);
 
             // 방 인원 수 감소
             Long current = chatFacade.updateRoomCurrentCapacity(Long.valueOf(roomId), -1L);
@@ -139,31 +181,106 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
 //                roomService.deleteRoom(Long.valueOf(roomId));
 //            }
 
-            redisPublisher.publish(leave);
+            chatBroker.publish(leave);
         }
     }
 
     /**
-     * Redis에 발행된 메시지를 수신하여 같은 방에 존재하는 WebSocket 세션으로 전송.
-     * @param chat Redis에서 발행된 메시지
+     * 이미 직렬화된 프레임을 재파싱 없이 같은 방의 WebSocket 세션으로 전송.
+     * @param header 프레임에서 읽어낸 type, roomId
+     * @param frame Redis에서 수신한 원본 JSON 바이트
      */
-    public void broadcast(ChatMessage chat) {
-        // 회원 목록 갱신은 JOIN/LEAVE 메시지에 대해서만 수행
-        if (chat.getType() == ChatMessage.MessageType.JOIN || chat.getType() == ChatMessage.MessageType.LEAVE) {
-            chatFacade.addRoomEvent(chat);
-            chat.setCurrentUserList(chatFacade.getRoomMembersDetailed(chat.getRoomId()));
+    public void broadcast(ChatMessageHeader header, byte[] frame) {
+        send(header.roomId(), new TextMessage(frame), header.type() == ChatMessage.MessageType.CHAT);
+    }
+
+    /**
+     * 각 세션의 송신 버퍼에 프레임을 넣습니다.
+     * 느리거나 끊긴 세션은 버퍼 정책에 따라 처리되므로 다른 세션의 전달을 막지 않으며,
+     * 대형 방은 RoomFanOutEngine이 청크 단위로 병렬 전송합니다.
+     * @param droppable 버퍼 초과 시 버려도 되는 CHAT 프레임인지 여부
+     */
+    private void send(String roomId, TextMessage packet, boolean droppable) {
+        roomFanOutEngine.deliver(sessionsByRoom.getOrDefault(roomId, Set.of()), packet, droppable);
+    }
+
+    /**
+     * 세션을 방에 등록합니다.
+     * 이 노드에서 방의 첫 세션이면 방 L1 캐시를 열고 브로커에서 방 메시지 수신을 시작합니다.
+     * 첫 세션 여부만 compute 안에서 결정하고, Redis를 거치는 호스팅 작업은 compute가 끝난 뒤 수행합니다.
+     * (compute 안에서 네트워크 I/O를 하면 같은 버킷의 다른 방 입장/퇴장까지 막힘)
+     */
+    private void addSession(String roomId, BoundedOutboundSession session) {
+        AtomicReference<HostingTransition> transition = new AtomicReference<>();
+        sessionsByRoom.compute(roomId, (k, sessions) -> {
+            if (sessions == null) {
+                sessions = ConcurrentHashMap.newKeySet();
+                transition.set(beginTransition(roomId));
+            }
+            sessions.add(session);
+            return sessions;
+        });
+
+        if (transition.get() != null) {
+            runTransition(transition.get(), () -> {
+                roomRecentMessageCache.open(roomId);
+                roomMembershipCache.open(roomId);
+                chatBroker.hostRoom(roomId);
+            });
+        } else {
+            // 첫 세션의 호스팅이 끝나기 전에 히스토리를 읽지 않도록 대기
+            hostingByRoom.getOrDefault(roomId, HOSTED).join();
         }
-        TextMessage packet = new TextMessage(chat.toJson());
-        sessionsByRoom.getOrDefault(chat.getRoomId(), Set.of())
-                .forEach(sess -> {
-                    if (sess.isOpen()) {
-                        try {
-                            sess.sendMessage(packet);
-                        } catch (IOException e) {
-                            throw new RuntimeException(e);
-                        }
-                    }
-                });
+    }
+
+    /**
+     * 세션을 방에서 제거합니다.
+     * 이 노드에서 방의 마지막 세션이면 브로커에서 방 메시지 수신을 중단하고 방 L1 캐시를 제거합니다.
+     */
+    private void removeSession(String roomId, BoundedOutboundSession session) {
+        AtomicReference<HostingTransition> transition = new AtomicReference<>();
+        sessionsByRoom.computeIfPresent(roomId, (k, sessions) -> {
+            sessions.remove(session);
+            if (sessions.isEmpty()) {
+                transition.set(beginTransition(roomId));
+                return null;
+            }
+            return sessions;
+        });
+
+        if (transition.get() != null) {
+            runTransition(transition.get(), () -> {
+                chatBroker.releaseRoom(roomId);
+                roomRecentMessageCache.evict(roomId);
+                roomMembershipCache.evict(roomId);
+            });
+        }
+    }
+
+    /**
+     * 방의 호스팅 전환(호스팅 시작/중단)을 등록합니다. compute 안에서 호출되므로 I/O 없이 순서만 정합니다.
+     */
+    private HostingTransition beginTransition(String roomId) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        CompletableFuture<Void> previous = hostingByRoom.put(roomId, done);
+        return new HostingTransition(roomId, previous != null ? previous : HOSTED, done);
+    }
+
+    /**
+     * 이전 전환이 끝난 뒤 전환 작업을 실행합니다.
+     * 마지막 세션 퇴장 직후 새 세션이 입장해도 releaseRoom이 hostRoom 뒤에 실행되는 일이 없도록 방별로 순서를 보장합니다.
+     */
+    private void runTransition(HostingTransition transition, Runnable work) {
+        transition.previous().join();
+        try {
+            work.run();
+        } finally {
+            transition.done().complete(null);
+            hostingByRoom.remove(transition.roomId(), transition.done());
+        }
+    }
+
+    private record HostingTransition(String roomId, CompletableFuture<Void> previous, CompletableFuture<Void> done) {
     }
 
     private ChatMessage switchChatMessageType(ChatMessage.MessageType type, String sender, String roomId) {
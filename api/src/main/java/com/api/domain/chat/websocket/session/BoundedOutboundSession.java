@@ -0,0 +1,225 @@
+package com.api.domain.chat.websocket.session;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 세션별 송신 버퍼를 두는 WebSocketSession 데코레이터.
+ * 보내는 스레드(브로드캐스트/fan-out)는 버퍼에 넣고 바로 반환하며, 실제 전송은 세션별 flush 작업이
+ * flushExecutor(가상 스레드)에서 한 번에 하나씩 수행합니다. 느린 클라이언트가 있어도 브로드캐스트 스레드는 멈추지 않습니다.
+ * 전송 시간/버퍼 크기 한도를 넘으면 OutboundOverflowPolicy에 따라 프레임을 버리거나 연결을 끊습니다.
+ */
+@Slf4j
+public class BoundedOutboundSession extends WebSocketSessionDecorator {
+    private final long sendTimeLimit;
+    private final int bufferSizeLimit;
+    private final OutboundOverflowPolicy overflowPolicy;
+    private final OutboundSessionRegistry registry;
+    private final Executor flushExecutor;
+
+    private final Deque<Frame> buffer = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger bufferSize = new AtomicInteger();
+    private final AtomicInteger bufferDepth = new AtomicInteger();
+
+    private volatile long sendStartTime;
+    private volatile boolean evicted;
+
+    // flush 작업이 예약되었거나 실행 중인지 여부 (세션당 하나만 전송)
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final Lock limitLock = new ReentrantLock();
+
+    public BoundedOutboundSession(WebSocketSession delegate, long sendTimeLimit, int bufferSizeLimit,
+                                  OutboundOverflowPolicy overflowPolicy, OutboundSessionRegistry registry,
+                                  Executor flushExecutor) {
+        super(delegate);
+        this.sendTimeLimit = sendTimeLimit;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.overflowPolicy = overflowPolicy;
+        this.registry = registry;
+        this.flushExecutor = flushExecutor;
+    }
+
+    /**
+     * 시스템 프레임으로 취급하여 전송합니다. (DROP_CHAT_KEEP_SYSTEM 정책에서 버려지지 않음)
+     */
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        send(message, false);
+    }
+
+    /**
+     * 프레임을 버퍼에 넣고 한도를 검사한 뒤, flush 작업이 없으면 예약하고 바로 반환합니다.
+     * 전송 실패는 호출자에게 전파하지 않고 세션을 퇴출합니다.
+     * @param droppable 버퍼 초과 시 버려도 되는 CHAT 프레임인지 여부
+     */
+    public void send(WebSocketMessage<?> message, boolean droppable) {
+        if (evicted) {
+            return;
+        }
+
+        buffer.add(new Frame(message, droppable));
+        bufferSize.addAndGet(message.getPayloadLength());
+        bufferDepth.incrementAndGet();
+
+        checkLimits();
+        scheduleFlush();
+    }
+
+    public int getBufferDepth() {
+        return bufferDepth.get();
+    }
+
+    public int getBufferSize() {
+        return bufferSize.get();
+    }
+
+    boolean isFlushing() {
+        return flushing.get();
+    }
+
+    private void scheduleFlush() {
+        if (evicted || buffer.isEmpty() || !flushing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flushExecutor.execute(this::flush);
+        } catch (RejectedExecutionException e) {
+            // 종료 중이라 전송할 수 없으므로 연결 종료
+            flushing.set(false);
+            evict(CloseStatus.GOING_AWAY, "send_rejected");
+        }
+    }
+
+    /**
+     * 버퍼가 빌 때까지 순서대로 전송합니다. 이 작업만 delegate에 전송하므로 전송이 겹치지 않습니다.
+     */
+    private void flush() {
+        try {
+            Frame frame;
+            while (!evicted && (frame = poll()) != null) {
+                sendStartTime = System.currentTimeMillis();
+                getDelegate().sendMessage(frame.message);
+                sendStartTime = 0;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Outbound send failed, session={}: {}", getId(), e.getMessage());
+            evict(CloseStatus.SESSION_NOT_RELIABLE, "send_failure");
+        } finally {
+            sendStartTime = 0;
+            flushing.set(false);
+        }
+        // 종료 직전에 추가된 프레임이 남지 않도록 다시 예약
+        scheduleFlush();
+    }
+
+    private void checkLimits() {
+        if (evicted || !limitLock.tryLock()) {
+            return;
+        }
+        try {
+            // 전송이 한도 이상 멈춰 있으면 버퍼 정책과 관계없이 회복할 수 없으므로 연결 종료
+            long start = sendStartTime;
+            if (start > 0 && System.currentTimeMillis() - start > sendTimeLimit) {
+                evict(CloseStatus.SESSION_NOT_RELIABLE, "send_time_limit");
+                return;
+            }
+
+            if (bufferSize.get() <= bufferSizeLimit) {
+                return;
+            }
+
+            switch (overflowPolicy) {
+                case DROP_OLDEST -> dropOldest();
+                case DROP_CHAT_KEEP_SYSTEM -> dropChat();
+                case DISCONNECT -> evict(CloseStatus.SESSION_NOT_RELIABLE, "buffer_size_limit");
+            }
+        } finally {
+            limitLock.unlock();
+        }
+    }
+
+    private void dropOldest() {
+        int dropped = 0;
+        while (bufferSize.get() > bufferSizeLimit && poll() != null) {
+            dropped++;
+        }
+        registry.recordDropped(overflowPolicy, dropped);
+    }
+
+    private void dropChat() {
+        int dropped = 0;
+        Iterator<Frame> it = buffer.iterator();
+        while (bufferSize.get() > bufferSizeLimit && it.hasNext()) {
+            Frame frame = it.next();
+            // 전송 스레드가 이미 꺼내간 프레임은 제외
+            if (frame.droppable && buffer.removeFirstOccurrence(frame)) {
+                release(frame);
+                dropped++;
+            }
+        }
+        registry.recordDropped(overflowPolicy, dropped);
+
+        // 시스템 프레임만으로도 한도를 넘는 경우 연결 종료
+        if (bufferSize.get() > bufferSizeLimit) {
+            evict(CloseStatus.SESSION_NOT_RELIABLE, "buffer_size_limit");
+        }
+    }
+
+    private Frame poll() {
+        Frame frame = buffer.poll();
+        if (frame != null) {
+            release(frame);
+        }
+        return frame;
+    }
+
+    private void release(Frame frame) {
+        bufferSize.addAndGet(-frame.message.getPayloadLength());
+        bufferDepth.decrementAndGet();
+    }
+
+    private void evict(CloseStatus status, String reason) {
+        if (evicted) {
+            return;
+        }
+        evicted = true;
+        while (poll() != null) {
+            // 남은 프레임 폐기
+        }
+        registry.recordEviction(reason);
+        log.info("Evicting slow consumer session={}, reason={}", getId(), reason);
+
+        try {
+            getDelegate().close(status);
+        } catch (IOException e) {
+            log.error("Error closing session: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 동일 payload의 프레임이 여러 개 있어도 인스턴스 단위로 제거되도록 equals를 재정의하지 않습니다.
+     */
+    private static final class Frame {
+        private final WebSocketMessage<?> message;
+        private final boolean droppable;
+
+        private Frame(WebSocketMessage<?> message, boolean droppable) {
+            this.message = message;
+            this.droppable = droppable;
+        }
+    }
+}
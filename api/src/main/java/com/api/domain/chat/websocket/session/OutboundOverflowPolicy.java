@@ -0,0 +1,13 @@
+package com.api.domain.chat.websocket.session;
+
+/**
+ * 세션 송신 버퍼가 가득 찼을 때의 처리 정책
+ */
+public enum OutboundOverflowPolicy {
+    // 가장 오래된 프레임부터 버림
+    DROP_OLDEST,
+    // CHAT 프레임만 오래된 순으로 버리고 JOIN/LEAVE/KICK 등 시스템 프레임은 유지
+    DROP_CHAT_KEEP_SYSTEM,
+    // 연결을 끊음
+    DISCONNECT
+}
@@ -0,0 +1,90 @@
+package com.api.domain.chat.websocket.session;
+
+import com.api.config.properties.ChatOutboundProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 이 노드의 모든 BoundedOutboundSession을 생성/보관하고 송신 버퍼 지표를 노출합니다.
+ * - chat.outbound.sessions : 관리 중인 세션 수
+ * - chat.outbound.queue.depth : 전체 세션 대기 프레임 수
+ * - chat.outbound.queue.bytes : 전체 세션 대기 바이트
+ * - chat.outbound.dropped : 정책에 의해 버려진 프레임 수 (policy 태그)
+ * - chat.outbound.evictions : 퇴출된 세션 수 (reason 태그)
+ * 세션별 전송(flush)은 가상 스레드에서 수행하므로 느린 세션이 브로드캐스트 스레드를 붙잡지 않습니다.
+ */
+@Component
+public class OutboundSessionRegistry {
+    private final ChatOutboundProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, BoundedOutboundSession> sessions = new ConcurrentHashMap<>();
+    private final ExecutorService flushExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("ChatOutbound-", 0).factory());
+
+    public OutboundSessionRegistry(ChatOutboundProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("chat.outbound.sessions", sessions, Map::size)
+                .register(meterRegistry);
+        Gauge.builder("chat.outbound.queue.depth", sessions,
+                        s -> s.values().stream().mapToInt(BoundedOutboundSession::getBufferDepth).sum())
+                .register(meterRegistry);
+        Gauge.builder("chat.outbound.queue.bytes", sessions,
+                        s -> s.values().stream().mapToInt(BoundedOutboundSession::getBufferSize).sum())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 세션을 송신 버퍼 데코레이터로 감싸 등록합니다.
+     */
+    public BoundedOutboundSession register(WebSocketSession session) {
+        BoundedOutboundSession outbound = new BoundedOutboundSession(
+                session,
+                properties.sendTimeLimit().toMillis(),
+                properties.bufferSizeLimit(),
+                properties.overflowPolicy(),
+                this,
+                flushExecutor
+        );
+        sessions.put(session.getId(), outbound);
+        return outbound;
+    }
+
+    /**
+     * 연결 종료된 세션을 제거합니다.
+     */
+    public BoundedOutboundSession unregister(String sessionId) {
+        return sessions.remove(sessionId);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+    }
+
+    void recordDropped(OutboundOverflowPolicy policy, int count) {
+        if (count > 0) {
+            Counter.builder("chat.outbound.dropped")
+                    .tag("policy", policy.name())
+                    .register(meterRegistry)
+                    .increment(count);
+        }
+    }
+
+    void recordEviction(String reason) {
+        Counter.builder("chat.outbound.evictions")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,89 @@
+package com.api.domain.chat.websocket.session;
+
+import com.api.config.properties.ChatFanOutProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * 방 세션들에게 프레임을 전달하는 fan-out 엔진.
+ * 세션 수가 임계값 이하면 호출 스레드에서 순차 전송하고, 초과하면 세션을 청크로 나눠 가상 스레드에서 동시에 전송합니다.
+ * 세션은 버퍼에 넣기만 하고 실제 전송은 세션별 flush 작업이 하므로, 청크 대기는 느린 클라이언트가 아닌 버퍼 적재 시간만큼입니다.
+ * 모든 청크가 끝난 뒤 반환하므로, 같은 세션에 대한 프레임 순서는 deliver 호출 순서를 그대로 따릅니다.
+ */
+@Slf4j
+@Component
+public class RoomFanOutEngine {
+    private final ChatFanOutProperties properties;
+    private final ExecutorService chatFanOutExecutor;
+    private final Timer serialTimer;
+    private final Timer parallelTimer;
+
+    public RoomFanOutEngine(ChatFanOutProperties properties,
+                            @Qualifier("chatFanOutExecutor") ExecutorService chatFanOutExecutor,
+                            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.chatFanOutExecutor = chatFanOutExecutor;
+        this.serialTimer = fanOutTimer(meterRegistry, "serial");
+        this.parallelTimer = fanOutTimer(meterRegistry, "parallel");
+    }
+
+    /**
+     * 방 세션들의 송신 버퍼에 프레임을 전달합니다.
+     * @param droppable 버퍼 초과 시 버려도 되는 CHAT 프레임인지 여부
+     */
+    public void deliver(Collection<BoundedOutboundSession> sessions, TextMessage packet, boolean droppable) {
+        if (sessions.size() <= properties.parallelThreshold()) {
+            serialTimer.record(() -> deliverChunk(sessions, packet, droppable));
+            return;
+        }
+        parallelTimer.record(() -> deliverParallel(List.copyOf(sessions), packet, droppable));
+    }
+
+    private void deliverParallel(List<BoundedOutboundSession> sessions, TextMessage packet, boolean droppable) {
+        int chunkSize = Math.max(1, properties.chunkSize());
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int from = 0; from < sessions.size(); from += chunkSize) {
+            List<BoundedOutboundSession> chunk = sessions.subList(from, Math.min(from + chunkSize, sessions.size()));
+            futures.add(chatFanOutExecutor.submit(() -> deliverChunk(chunk, packet, droppable)));
+        }
+
+        // 모든 청크가 버퍼에 넣을 때까지 대기 (다음 deliver의 프레임이 앞지르지 않도록)
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                log.error("Fan-out chunk failed: {}", e.getCause().getMessage());
+            }
+        }
+    }
+
+    private void deliverChunk(Collection<BoundedOutboundSession> sessions, TextMessage packet, boolean droppable) {
+        for (BoundedOutboundSession sess : sessions) {
+            if (sess.isOpen()) {
+                sess.send(packet, droppable);
+            }
+        }
+    }
+
+    private static Timer fanOutTimer(MeterRegistry meterRegistry, String mode) {
+        return Timer.builder("chat.fanout.latency")
+                .tag("mode", mode)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+}
@@ -1,14 +1,17 @@
 package com.api.domain.room.repository.jooq;
 
+import com.api.common.query.AdminPageRequest;
+import com.api.common.query.AdminQuery;
+import com.api.common.query.AdminQueryExecutor;
 import com.api.common.utils.DateUtil;
 import com.api.domain.room.model.SearchRoomRequest;
 import com.api.domain.room.model.SelectRoomForAdminDTO;
 import lombok.RequiredArgsConstructor;
 import org.jooq.Condition;
-import org.jooq.DSLContext;
+import org.jooq.Cursor;
+import org.jooq.Record;
 import org.jooq.impl.DSL;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
@@ -19,9 +22,20 @@ import static com.api.jooq.Tables.ROOM;
 @Repository
 @RequiredArgsConstructor
 public class RoomDSLRepository {
-    private final DSLContext dslContext;
+    private final AdminQueryExecutor adminQueryExecutor;
 
-    public Page<SelectRoomForAdminDTO> findAllBySearchCondition(SearchRoomRequest search, Pageable pageable) {
+    public Page<SelectRoomForAdminDTO> findAllBySearchCondition(SearchRoomRequest search, AdminPageRequest paging, Pageable pageable) {
+        return adminQueryExecutor.fetchPage(searchQuery(search), paging, pageable);
+    }
+
+    /**
+     * 검색 조건에 맞는 행을 스트리밍 커서로 엽니다. (내보내기용, 사용 후 반드시 close)
+     */
+    public Cursor<Record> openExportCursor(SearchRoomRequest search) {
+        return adminQueryExecutor.openCursor(searchQuery(search));
+    }
+
+    private AdminQuery<SelectRoomForAdminDTO> searchQuery(SearchRoomRequest search) {
         // 검색 조건 설정
         Condition condition = switch (search.searchType()) {
             case NAME -> ROOM.ROOM_ID.likeIgnoreCase("%" + search.searchText() + "%");
@@ -33,27 +47,14 @@ public class RoomDSLRepository {
             default -> DSL.trueCondition();
         };
 
-        // 총 레코드 수 조회
-        Integer total = dslContext
-                .selectCount()
-                .from(ROOM)
-                .where(condition)
-                .fetchOne(0, Integer.class);
-
-        if (total == null || total == 0) {
-            return new PageImpl<>(List.of(), pageable, 0);
-        }
-
-        // 페이징 적용하여 데이터 조회
-        List<SelectRoomForAdminDTO> result = dslContext
-                .select(ROOM.ROOM_ID, ROOM.ROOM_NAME, ROOM.ROOM_DESCRIPTION, ROOM.users().USERNAME, ROOM.DELETED, ROOM.CREATE_DATE)
-                .from(ROOM)
-                .where(condition)
-                .orderBy(ROOM.CREATE_DATE.desc())
-                .limit(pageable.getPageSize())
-                .offset(pageable.getOffset())
-                .fetchInto(SelectRoomForAdminDTO.class);
-
-        return new PageImpl<>(result, pageable, total);
+        // 방 ID는 생성 순서대로 증가하므로 생성일 대신 PK로 정렬해 커서 seek이 가능하도록 함
+        return new AdminQuery<>(
+                ROOM,
+                condition,
+                List.of(ROOM.ROOM_ID, ROOM.ROOM_NAME, ROOM.ROOM_DESCRIPTION, ROOM.users().USERNAME, ROOM.DELETED, ROOM.CREATE_DATE),
+                ROOM.ROOM_ID,
+                true,
+                SelectRoomForAdminDTO.class
+        );
     }
 }
@@ -1,26 +1,45 @@
 package com.api.domain.room.service;
 
+import com.api.common.export.AdminExportWriter;
+import com.api.common.export.ExportFormat;
+import com.api.common.query.AdminPageRequest;
 import com.api.domain.room.model.ModifyRoomRequest;
 import com.api.domain.room.model.SearchRoomRequest;
 import com.api.domain.room.model.SelectRoomForAdminDTO;
 import com.api.domain.room.repository.RoomRepository;
 import com.api.domain.room.repository.jooq.RoomDSLRepository;
 import lombok.RequiredArgsConstructor;
+import org.jooq.Cursor;
+import org.jooq.Record;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 @Service
 @RequiredArgsConstructor
 public class RoomAdminService {
     private final RoomRepository roomRepository;
     private final RoomDSLRepository roomDSLRepository;
+    private final AdminExportWriter adminExportWriter;
+
+    @Transactional(readOnly = true, propagation = Propagation.NOT_SUPPORTED)
+    public Page<SelectRoomForAdminDTO> findAllBySearchCondition(SearchRoomRequest search, AdminPageRequest paging, Pageable pageable) {
+        return roomDSLRepository.findAllBySearchCondition(search, paging, pageable);
+    }
 
+    /**
+     * 검색 조건에 맞는 채팅방을 out으로 스트리밍합니다. (내보내기)
+     */
     @Transactional(readOnly = true, propagation = Propagation.NOT_SUPPORTED)
-    public Page<SelectRoomForAdminDTO> findAllBySearchCondition(SearchRoomRequest search, Pageable pageable) {
-        return roomDSLRepository.findAllBySearchCondition(search, pageable);
+    public long exportBySearchCondition(SearchRoomRequest search, ExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        try (Cursor<Record> cursor = roomDSLRepository.openExportCursor(search)) {
+            return adminExportWriter.write(cursor, format, gzip, out);
+        }
     }
 
     @Transactional(readOnly = true)
@@ -4,13 +4,19 @@ package com.api.domain.room.service;
 import com.api.common.exception.UserForbiddenException;
 import com.api.common.model.CustomSlice;
 import com.api.common.utils.RoleUtil;
+import com.api.domain.chat.broker.ChatBroker;
+import com.api.domain.chat.cache.RoomMembershipCache;
+import com.api.domain.chat.cache.RoomRecentMessageCache;
 import com.api.domain.chat.model.ChatMessage;
+import com.api.domain.chat.model.ChatMessageCodec;
+import com.api.domain.chat.model.ChatMessageHeader;
 import com.api.domain.chat.redis.repository.RedisRoomRepository;
 import com.api.domain.room.entity.RoomEntity;
 import com.api.domain.room.model.RequestCreateRoomDTO;
 import com.api.domain.room.model.ResponseReadRoomDTO;
 import com.api.domain.room.repository.RoomRepository;
 import com.api.domain.user.entity.UserEntity;
+import com.api.domain.user.model.RequestReadUserDTO;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -19,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Service
@@ -26,6 +33,9 @@ import java.util.List;
 public class RoomHybridSyncService {
     private final RoomRepository roomRepository;
     private final RedisRoomRepository redisRoomRepository;
+    private final ChatBroker chatBroker;
+    private final RoomRecentMessageCache roomRecentMessageCache;
+    private final RoomMembershipCache roomMembershipCache;
 
     /**
      * 방을 생성합니다.
@@ -135,6 +145,21 @@ public class RoomHybridSyncService {
         roomRepository.save(room);
     }
 
+    /**
+     * 퇴장한 회원을 Redis 방 회원 목록에서만 제거합니다. (인원 수는 updateRoomCurrentCapacity에서 반영)
+     */
+    public void removeRoomMember(ChatMessage message) {
+        redisRoomRepository.switchRoomAndGetCurrentCapacity(message);
+    }
+
+    /**
+     * 방 회원 목록을 반환합니다.
+     * 이 노드가 호스팅 중인 방은 회원 캐시에서, 아니면 Redis room:members에서 조회하며 DB는 거치지 않습니다.
+     */
+    public List<RequestReadUserDTO> getRoomMembers(String roomId) {
+        return roomMembershipCache.getMembers(roomId, () -> redisRoomRepository.getRoomMembers(roomId));
+    }
+
     /**
      * 현재 방의 인원 수를 Redis에서 업데이트합니다.
      */
@@ -144,11 +169,57 @@ public class RoomHybridSyncService {
     }
 
     /**
-     * 레디스에 저장된 채팅방의 과거 채팅 기록을 가져옵니다.
-     * 방 ID를 기준으로 채팅 메시지 리스트를 반환합니다.
+     * 입장 시 재생할 히스토리 윈도우를 하나의 HISTORY 프레임으로 만들어 반환합니다.
+     * resumeFrom이 있으면 그 시퀀스 이후의 메시지만 담습니다.
+     * 보낼 히스토리가 없으면 null을 반환합니다.
+     */
+    public byte[] getChatHistoryFrame(String roomId, Long resumeFrom) {
+        // 방 L1 캐시 우선, 첫 입장 시에만 브로커(Redis)에서 워밍
+        List<byte[]> frames = roomRecentMessageCache.getRecentFrames(roomId, () -> chatBroker.getRecentFrames(roomId));
+
+        if (frames == null || frames.isEmpty()) {
+            return null;
+        }
+
+        // Redis List는 최신순이므로, 이미 받은 시퀀스를 만나면 중단하고 오래된 순으로 뒤집어 전달
+        List<byte[]> oldestFirst = new ArrayList<>(frames.size());
+        for (byte[] frame : frames) {
+            Long seq = ChatMessageHeader.peek(frame).seq();
+            if (resumeFrom != null && seq != null && seq <= resumeFrom) {
+                break;
+            }
+            oldestFirst.add(frame);
+        }
+
+        if (oldestFirst.isEmpty()) {
+            return null;
+        }
+        Collections.reverse(oldestFirst);
+        return ChatMessageCodec.encodeHistory(roomId, oldestFirst);
+    }
+
+    /**
+     * Redis 히스토리 윈도우에서 before보다 오래된 메시지를 최신순으로 최대 limit개 가져옵니다.
+     * 메시지 ID가 없는 프레임(ID 도입 이전 메시지)은 커서로 비교할 수 없으므로 제외합니다.
      */
-    public List<ChatMessage> getAllChatHistory(String roomId) {
-        return redisRoomRepository.getAllChatHistory(roomId);
+    public List<ChatMessage> getRecentMessagesBefore(String roomId, Long before, int limit) {
+        List<byte[]> frames = roomRecentMessageCache.getRecentFrames(roomId, () -> chatBroker.getRecentFrames(roomId));
+        if (frames == null || frames.isEmpty()) {
+            return List.of();
+        }
+
+        List<ChatMessage> result = new ArrayList<>(limit);
+        for (byte[] frame : frames) {
+            if (result.size() >= limit) {
+                break;
+            }
+            ChatMessage message = ChatMessageCodec.decode(frame);
+            if (message.getId() == null || (before != null && message.getId() >= before)) {
+                continue;
+            }
+            result.add(message);
+        }
+        return result;
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.api.domain.roomUser.entity;
 
 import com.api.common.entity.BaseDateEntity;
+import com.api.common.id.TimeOrderedId;
 import com.api.domain.room.entity.RoomEntity;
 import com.api.domain.user.entity.UserEntity;
 import jakarta.persistence.*;
@@ -21,7 +22,7 @@ import org.hibernate.annotations.BatchSize;
 })
 public class RoomUserEntity extends BaseDateEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     // 방 정보
@@ -37,6 +38,9 @@ public class RoomUserEntity extends BaseDateEntity {
     @Builder.Default
     private boolean leaved = false; // 방 나가기 여부
 
+    // 마지막으로 반영한 room:events 이벤트 버전 (재전달/역순 도착 이벤트를 걸러내기 위함, 이전 행은 null)
+    private Long eventVersion;
+
     public void nowLeave() {
         this.leaved = true;
     }
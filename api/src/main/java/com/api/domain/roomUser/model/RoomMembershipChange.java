@@ -0,0 +1,114 @@
+package com.api.domain.roomUser.model;
+
+import com.api.domain.chat.model.ChatMessage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 배치의 방 이벤트를 (방, 사용자) 단위로 합친 결과.
+ * 이벤트 수를 더하지 않고 스트림 순서상 마지막 이벤트(최종 상태)만 남기며, 그 이벤트의 버전으로 반영 여부를 판단하므로
+ * 배치 사이에 순서가 뒤바뀌거나(LEAVE가 JOIN보다 먼저 반영) 같은 배치가 다시 반영되어도 결과가 같습니다.
+ * @param roomId 방 ID
+ * @param username 사용자 이름
+ * @param joined 최종 상태가 입장이면 true, 퇴장이면 false
+ * @param version 최종 상태를 만든 이벤트의 버전 (스트림 ID 순서와 같음)
+ */
+public record RoomMembershipChange(
+        Long roomId,
+        String username,
+        boolean joined,
+        long version
+) {
+
+    /**
+     * 반영 방법
+     */
+    public enum Action {
+        // 이미 같거나 더 최신 이벤트가 반영됨 (재전달 / 순서가 뒤바뀐 과거 이벤트)
+        SKIP,
+        // 입장 중인 행이 없으므로 입장 행 추가
+        INSERT_JOINED,
+        // 이미 입장 중이므로 버전만 갱신 (중복 입장 행을 만들지 않음)
+        REFRESH_JOINED,
+        // 입장 중인 행을 퇴장 처리
+        LEAVE_JOINED,
+        // 입장 행이 아직 없는 퇴장(JOIN보다 먼저 도착)은 퇴장 행으로 기록해, 뒤늦게 온 JOIN이 반영되지 않게 함
+        INSERT_LEFT
+    }
+
+    /**
+     * (방, 사용자)의 현재 room_user 상태
+     * @param version 반영된 마지막 이벤트 버전 (없으면 0)
+     * @param active 입장 중인 행이 있는지 여부
+     */
+    public record State(long version, boolean active) {
+        public static final State NONE = new State(0L, false);
+    }
+
+    /**
+     * 스트림에서 읽은 방 이벤트와 그 버전
+     */
+    public record Event(long version, ChatMessage message) {
+    }
+
+    /**
+     * 스트림 ID(밀리초-시퀀스)를 순서가 같은 하나의 long 버전으로 변환합니다.
+     */
+    public static long versionOf(long timestamp, long sequence) {
+        return (timestamp << 16) | Math.min(sequence, 0xFFFF);
+    }
+
+    /**
+     * 이벤트를 (방, 사용자)별로 묶어 버전이 가장 큰 이벤트만 남깁니다. (배치 안의 순서와 무관)
+     * JOIN/LEAVE가 아니거나 방 ID가 숫자가 아닌 이벤트는 무시합니다.
+     */
+    public static List<RoomMembershipChange> coalesce(List<Event> events) {
+        Map<Long, Map<String, RoomMembershipChange>> byRoom = new LinkedHashMap<>();
+
+        for (Event event : events) {
+            ChatMessage message = event.message();
+            boolean joined;
+            switch (message.getType()) {
+                case JOIN -> joined = true;
+                case LEAVE -> joined = false;
+                default -> {
+                    continue;
+                }
+            }
+            if (message.getSender() == null) {
+                continue;
+            }
+
+            Long roomId;
+            try {
+                roomId = Long.parseLong(message.getRoomId());
+            } catch (NumberFormatException e) {
+                continue;
+            }
+
+            RoomMembershipChange change = new RoomMembershipChange(roomId, message.getSender(), joined, event.version());
+            byRoom.computeIfAbsent(roomId, id -> new LinkedHashMap<>())
+                    .merge(message.getSender(), change, (current, next) -> next.version() > current.version() ? next : current);
+        }
+
+        List<RoomMembershipChange> changes = new ArrayList<>();
+        byRoom.values().forEach(users -> changes.addAll(users.values()));
+        return changes;
+    }
+
+    /**
+     * 현재 상태에 이 변경을 어떻게 반영할지 정합니다.
+     */
+    public Action plan(State current) {
+        if (current.version() >= version) {
+            return Action.SKIP;
+        }
+        if (joined) {
+            return current.active() ? Action.REFRESH_JOINED : Action.INSERT_JOINED;
+        }
+        return current.active() ? Action.LEAVE_JOINED : Action.INSERT_LEFT;
+    }
+}
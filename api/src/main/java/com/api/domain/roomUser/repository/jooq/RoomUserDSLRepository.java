@@ -0,0 +1,144 @@
+package com.api.domain.roomUser.repository.jooq;
+
+import com.api.common.id.IdGenerator;
+import com.api.domain.roomUser.model.RoomMembershipChange;
+import com.api.jooq.tables.records.RoomUserRecord;
+import lombok.RequiredArgsConstructor;
+import org.jooq.DSLContext;
+import org.jooq.InsertValuesStep7;
+import org.jooq.Query;
+import org.jooq.Row2;
+import org.jooq.impl.DSL;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.api.jooq.tables.Room.ROOM;
+import static com.api.jooq.tables.RoomUser.ROOM_USER;
+import static com.api.jooq.tables.Users.USERS;
+
+@Repository
+@RequiredArgsConstructor
+public class RoomUserDSLRepository {
+    private final DSLContext dslContext;
+    private final IdGenerator idGenerator;
+
+    /**
+     * 사용자 이름 → 사용자 ID (한 번의 IN 조회)
+     */
+    public Map<String, Long> findUserIdsByUsername(Collection<String> usernames) {
+        return dslContext
+                .select(USERS.USERNAME, USERS.ID)
+                .from(USERS)
+                .where(USERS.USERNAME.in(usernames))
+                .fetchMap(USERS.USERNAME, USERS.ID);
+    }
+
+    /**
+     * 존재하는 방 ID만 반환합니다. (한 번의 IN 조회)
+     */
+    public Set<Long> findExistingRoomIds(Collection<Long> roomIds) {
+        return dslContext
+                .select(ROOM.ROOM_ID)
+                .from(ROOM)
+                .where(ROOM.ROOM_ID.in(roomIds))
+                .fetchSet(ROOM.ROOM_ID);
+    }
+
+    /**
+     * (방, 사용자)별 현재 상태를 한 번에 조회하고 잠급니다. (SELECT ... FOR UPDATE)
+     * 같은 트랜잭션의 applyAll이 이 상태를 기준으로 반영 여부를 정하므로, 조회와 반영 사이에 다른 반영이 끼어들지 않습니다.
+     * @param userIds 사용자 이름 → 사용자 ID
+     */
+    public Map<MemberKey, RoomMembershipChange.State> lockStates(List<RoomMembershipChange> changes, Map<String, Long> userIds) {
+        List<Row2<Long, Long>> keys = changes.stream()
+                .map(change -> DSL.row(change.roomId(), userIds.get(change.username())))
+                .toList();
+
+        Map<MemberKey, RoomMembershipChange.State> states = new HashMap<>();
+        dslContext
+                .select(ROOM_USER.ROOM_ID,
+                        ROOM_USER.USER_ID,
+                        DSL.max(DSL.coalesce(ROOM_USER.EVENT_VERSION, 0L)),
+                        DSL.count().filterWhere(ROOM_USER.LEAVED.isFalse()))
+                .from(ROOM_USER)
+                .where(DSL.row(ROOM_USER.ROOM_ID, ROOM_USER.USER_ID).in(keys))
+                .groupBy(ROOM_USER.ROOM_ID, ROOM_USER.USER_ID)
+                .forUpdate()
+                .forEach(record -> states.put(
+                        new MemberKey(record.value1(), record.value2()),
+                        new RoomMembershipChange.State(record.value3(), record.value4() > 0)));
+        return states;
+    }
+
+    /**
+     * (방, 사용자)별 최종 상태를 JDBC 배치 한 번으로 반영합니다.
+     * 저장된 버전보다 새로운 변경만 반영하므로 같은 배치를 다시 반영하거나 배치가 역순으로 도착해도 결과가 같습니다.
+     * - 입장: 입장 중인 행이 없으면 multi-row INSERT로 추가, 있으면 버전만 갱신
+     * - 퇴장: 입장 중인 행을 모두 퇴장 처리, 없으면 퇴장 행을 추가해 뒤늦게 도착한 입장을 막음
+     * @param userIds 사용자 이름 → 사용자 ID
+     * @return 실행한 SQL 문 수
+     */
+    public int applyAll(List<RoomMembershipChange> changes, Map<String, Long> userIds) {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+
+        Map<MemberKey, RoomMembershipChange.State> states = lockStates(changes, userIds);
+        LocalDateTime now = LocalDateTime.now();
+        List<Query> queries = new ArrayList<>();
+
+        InsertValuesStep7<RoomUserRecord, Long, Long, Long, Boolean, Long, LocalDateTime, LocalDateTime> insert = dslContext
+                .insertInto(ROOM_USER,
+                        ROOM_USER.ID,
+                        ROOM_USER.ROOM_ID,
+                        ROOM_USER.USER_ID,
+                        ROOM_USER.LEAVED,
+                        ROOM_USER.EVENT_VERSION,
+                        ROOM_USER.CREATE_DATE,
+                        ROOM_USER.MODIFIED_DATE);
+        boolean hasInsert = false;
+
+        for (RoomMembershipChange change : changes) {
+            Long userId = userIds.get(change.username());
+            RoomMembershipChange.State current = states.getOrDefault(
+                    new MemberKey(change.roomId(), userId), RoomMembershipChange.State.NONE);
+
+            switch (change.plan(current)) {
+                case SKIP -> {
+                }
+                case INSERT_JOINED, INSERT_LEFT -> {
+                    insert = insert.values(idGenerator.nextId(), change.roomId(), userId, !change.joined(), change.version(), now, now);
+                    hasInsert = true;
+                }
+                case REFRESH_JOINED, LEAVE_JOINED -> queries.add(dslContext.update(ROOM_USER)
+                        .set(ROOM_USER.LEAVED, !change.joined())
+                        .set(ROOM_USER.EVENT_VERSION, change.version())
+                        .set(ROOM_USER.MODIFIED_DATE, now)
+                        .where(ROOM_USER.ROOM_ID.eq(change.roomId()))
+                        .and(ROOM_USER.USER_ID.eq(userId))
+                        .and(ROOM_USER.LEAVED.isFalse()));
+            }
+        }
+
+        if (hasInsert) {
+            queries.addFirst(insert);
+        }
+        if (!queries.isEmpty()) {
+            dslContext.batch(queries).execute();
+        }
+        return queries.size();
+    }
+
+    /**
+     * room_user의 (방 ID, 사용자 ID)
+     */
+    public record MemberKey(Long roomId, Long userId) {
+    }
+}
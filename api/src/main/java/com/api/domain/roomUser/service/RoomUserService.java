@@ -2,18 +2,27 @@ package com.api.domain.roomUser.service;
 
 import com.api.domain.room.entity.RoomEntity;
 import com.api.domain.roomUser.entity.RoomUserEntity;
+import com.api.domain.roomUser.model.RoomMembershipChange;
 import com.api.domain.roomUser.repository.RoomUserRepository;
+import com.api.domain.roomUser.repository.jooq.RoomUserDSLRepository;
 import com.api.domain.user.entity.UserEntity;
 import com.api.domain.user.model.RequestReadUserDTO;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RoomUserService {
     private final RoomUserRepository roomUserRepository;
+    private final RoomUserDSLRepository roomUserDSLRepository;
 
     public List<RequestReadUserDTO> getUsersInRoom(RoomEntity room) {
         // 방에 속한 사용자 목록을 조회합니다.
@@ -37,6 +46,34 @@ public class RoomUserService {
         roomUserRepository.save(roomUser);
     }
 
+    /**
+     * 방 이벤트 배치에서 합쳐진 입장/퇴장 변경을 하나의 트랜잭션으로 반영합니다.
+     * 엔티티를 건별로 로드하지 않고, 사용자/방 확인 조회 2번 + JDBC 배치 1번으로 처리합니다.
+     * 존재하지 않는 방이나 사용자의 변경은 건너뜁니다.
+     * @return 반영한 변경 수
+     */
+    @Transactional
+    public int applyMembershipChanges(List<RoomMembershipChange> changes) {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Long> userIds = roomUserDSLRepository.findUserIdsByUsername(
+                changes.stream().map(RoomMembershipChange::username).collect(Collectors.toSet()));
+        Set<Long> roomIds = roomUserDSLRepository.findExistingRoomIds(
+                changes.stream().map(RoomMembershipChange::roomId).collect(Collectors.toSet()));
+
+        List<RoomMembershipChange> valid = changes.stream()
+                .filter(change -> userIds.containsKey(change.username()) && roomIds.contains(change.roomId()))
+                .toList();
+        if (valid.size() < changes.size()) {
+            log.warn("존재하지 않는 방/사용자의 입장/퇴장 변경 {}건을 건너뜁니다.", changes.size() - valid.size());
+        }
+
+        roomUserDSLRepository.applyAll(valid, userIds);
+        return valid.size();
+    }
+
     /**
      *  채팅방 인원 리스트를 조회합니다.
      */
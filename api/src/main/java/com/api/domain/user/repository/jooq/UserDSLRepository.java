@@ -1,13 +1,16 @@
 package com.api.domain.user.repository.jooq;
 
+import com.api.common.query.AdminPageRequest;
+import com.api.common.query.AdminQuery;
+import com.api.common.query.AdminQueryExecutor;
 import com.api.domain.user.model.SearchUserRequest;
 import com.api.domain.user.model.SelectUserForAdminDTO;
 import lombok.RequiredArgsConstructor;
 import org.jooq.Condition;
-import org.jooq.DSLContext;
+import org.jooq.Cursor;
+import org.jooq.Record;
 import org.jooq.impl.DSL;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
@@ -19,9 +22,20 @@ import static com.api.jooq.tables.Users.USERS;
 @RequiredArgsConstructor
 public class UserDSLRepository {
 
-    private final DSLContext dslContext;
+    private final AdminQueryExecutor adminQueryExecutor;
 
-   public Page<SelectUserForAdminDTO> findAllBySearchCondition(SearchUserRequest search, Pageable pageable) {
+   public Page<SelectUserForAdminDTO> findAllBySearchCondition(SearchUserRequest search, AdminPageRequest paging, Pageable pageable) {
+       return adminQueryExecutor.fetchPage(searchQuery(search), paging, pageable);
+   }
+
+   /**
+    * 검색 조건에 맞는 행을 스트리밍 커서로 엽니다. (내보내기용, 사용 후 반드시 close)
+    */
+   public Cursor<Record> openExportCursor(SearchUserRequest search) {
+       return adminQueryExecutor.openCursor(searchQuery(search));
+   }
+
+   private AdminQuery<SelectUserForAdminDTO> searchQuery(SearchUserRequest search) {
        // 검색 조건 설정
        Condition condition;
 
@@ -39,29 +53,14 @@ public class UserDSLRepository {
            default -> condition = DSL.trueCondition();
        }
 
-       // 총 레코드 수 조회
-       Integer total = dslContext
-               .selectCount()
-               .from(USERS)
-               .where(condition)
-               .fetchOne(0, Integer.class);
-
-       if (total == null || total == 0) {
-              return new PageImpl<>(List.of(), pageable, 0);
-       }
-
-       // 페이징 적용하여 데이터 조회
-       // 페이징 적용하여 데이터 조회 (password 제외)
-       List<SelectUserForAdminDTO> userDTOs = dslContext
-               .select(USERS.ID, USERS.USERNAME, USERS.ROLE, USERS.CREATE_DATE, USERS.MODIFIED_DATE)
-               .from(USERS)
-               .where(condition)
-               .orderBy(USERS.ID.asc())
-               .limit(pageable.getPageSize())
-               .offset(pageable.getOffset())
-               .fetchInto(SelectUserForAdminDTO.class);
-
-       // Page 객체 생성하여 반환
-       return new PageImpl<>(userDTOs, pageable, total);
+       // 조회 컬럼 (password 제외)
+       return new AdminQuery<>(
+               USERS,
+               condition,
+               List.of(USERS.ID, USERS.USERNAME, USERS.ROLE, USERS.CREATE_DATE, USERS.MODIFIED_DATE),
+               USERS.ID,
+               false,
+               SelectUserForAdminDTO.class
+       );
    }
 }
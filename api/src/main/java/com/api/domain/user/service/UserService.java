@@ -1,15 +1,25 @@
 package com.api.domain.user.service;
 
+import com.api.common.export.AdminExportWriter;
+import com.api.common.export.ExportFormat;
+import com.api.common.query.AdminPageRequest;
 import com.api.domain.user.exception.UsernameAlreadyExistsException;
 import com.api.domain.user.entity.UserEntity;
 import com.api.domain.user.model.*;
 import com.api.domain.user.repository.UserRepository;
 import com.api.domain.user.repository.jooq.UserDSLRepository;
 import lombok.RequiredArgsConstructor;
+import org.jooq.Cursor;
+import org.jooq.Record;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
 
 @Service
 @RequiredArgsConstructor
@@ -17,6 +27,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserDSLRepository userDSLRepository;
+    private final AdminExportWriter adminExportWriter;
 
     /**
      * 사용자 등록
@@ -37,8 +48,18 @@ public class UserService {
     /**
      * 사용자 정보 조회
      */
-    public Page<SelectUserForAdminDTO> findAllBySearchCondition(SearchUserRequest search, Pageable pageable) {
-        return userDSLRepository.findAllBySearchCondition(search, pageable);
+    public Page<SelectUserForAdminDTO> findAllBySearchCondition(SearchUserRequest search, AdminPageRequest paging, Pageable pageable) {
+        return userDSLRepository.findAllBySearchCondition(search, paging, pageable);
+    }
+
+    /**
+     * 사용자 정보 내보내기 (검색 조건에 맞는 사용자를 out으로 스트리밍)
+     */
+    @Transactional(readOnly = true, propagation = Propagation.NOT_SUPPORTED)
+    public long exportBySearchCondition(SearchUserRequest search, ExportFormat format, boolean gzip, OutputStream out) throws IOException {
+        try (Cursor<Record> cursor = userDSLRepository.openExportCursor(search)) {
+            return adminExportWriter.write(cursor, format, gzip, out);
+        }
     }
 
     /**
@@ -1,5 +1,8 @@
 package com.api.web.admin.chat.controller;
 
+import com.api.common.export.ExportFormat;
+import com.api.common.export.ExportResponses;
+import com.api.common.query.AdminPageRequest;
 import com.api.domain.HistoryMessage.model.ModifyHistoryMessageRequest;
 import com.api.domain.HistoryMessage.model.SearchHistoryMessageRequest;
 import com.api.domain.HistoryMessage.model.SelectHistoryMessageForAdminDTO;
@@ -10,9 +13,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.List;
 
 @RestController
 @RequestMapping("/admin/chat/history")
@@ -24,6 +32,7 @@ public class ChatHistoryAdminController {
     @GetMapping("/search")
     public ResponseEntity<Page<SelectHistoryMessageForAdminDTO>> getChatHistory(
             SearchHistoryMessageRequest search,
+            AdminPageRequest paging,
             @PageableDefault Pageable pageable,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
@@ -32,11 +41,42 @@ public class ChatHistoryAdminController {
             return ResponseEntity.status(403).build(); // Forbidden
         }
 
-        Page<SelectHistoryMessageForAdminDTO> allBySearchCondition = chatHistoryService.findAllBySearchCondition(search, pageable);
+        Page<SelectHistoryMessageForAdminDTO> allBySearchCondition = chatHistoryService.findAllBySearchCondition(search, paging, pageable);
 
         return ResponseEntity.ok(allBySearchCondition);
     }
 
+    // 채팅 히스토리 내보내기 (NDJSON/CSV 스트리밍)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportChatHistory(
+            SearchHistoryMessageRequest search,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        // 관리자 확인
+        if (userDetails == null || !userDetails.getUserEntity().getRole().equals(UserEntity.Role.ADMIN)) {
+            return ResponseEntity.status(403).build(); // Forbidden
+        }
+
+        return ExportResponses.of("chat-history", format, gzip, out -> chatHistoryService.exportBySearchCondition(search, format, gzip, out));
+    }
+
+    // 아카이브된 채팅 히스토리 조회 (방의 하루치)
+    @GetMapping("/archive/{roomId}")
+    public ResponseEntity<List<SelectHistoryMessageForAdminDTO>> getArchivedChatHistory(
+            @PathVariable String roomId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        // 관리자 확인
+        if (userDetails == null || !userDetails.getUserEntity().getRole().equals(UserEntity.Role.ADMIN)) {
+            return ResponseEntity.status(403).build(); // Forbidden
+        }
+
+        return ResponseEntity.ok(chatHistoryService.findArchivedMessages(roomId, date));
+    }
+
     // 채팅 히스토리 상세 조회
     @GetMapping("/{id}")
     public ResponseEntity<SelectHistoryMessageForAdminDTO> getChatHistoryDetail(
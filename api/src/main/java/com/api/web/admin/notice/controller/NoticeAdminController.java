@@ -1,5 +1,6 @@
 package com.api.web.admin.notice.controller;
 
+import com.api.common.query.AdminPageRequest;
 import com.api.domain.Notice.model.ModifyNoticeRequest;
 import com.api.domain.Notice.model.SearchNoticeRequest;
 import com.api.domain.Notice.model.SelectNoticeForAdminDTO;
@@ -24,6 +25,7 @@ public class NoticeAdminController {
     @GetMapping("/search")
     public ResponseEntity<Page<SelectNoticeForAdminDTO>> getNotice(
             SearchNoticeRequest search,
+            AdminPageRequest paging,
             @PageableDefault Pageable pageable,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
@@ -32,7 +34,7 @@ public class NoticeAdminController {
             return ResponseEntity.status(403).build(); // Forbidden
         }
 
-        Page<SelectNoticeForAdminDTO> allBySearchCondition = noticeService.findAllBySearchCondition(search, pageable);
+        Page<SelectNoticeForAdminDTO> allBySearchCondition = noticeService.findAllBySearchCondition(search, paging, pageable);
 
         return ResponseEntity.ok(allBySearchCondition);
     }
@@ -1,5 +1,8 @@
 package com.api.web.admin.room.controller;
 
+import com.api.common.export.ExportFormat;
+import com.api.common.export.ExportResponses;
+import com.api.common.query.AdminPageRequest;
 import com.api.domain.room.model.ModifyRoomRequest;
 import com.api.domain.room.model.SearchRoomRequest;
 import com.api.domain.room.model.SelectRoomForAdminDTO;
@@ -13,6 +16,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/admin/room")
@@ -23,6 +27,7 @@ public class RoomAdminController {
     @GetMapping("/search")
     public ResponseEntity<Page<SelectRoomForAdminDTO>> getRoom(
             SearchRoomRequest search,
+            AdminPageRequest paging,
             @PageableDefault Pageable pageable,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
@@ -31,10 +36,26 @@ public class RoomAdminController {
             return ResponseEntity.status(403).build(); // Forbidden
         }
 
-        Page<SelectRoomForAdminDTO> allBySearchCondition = roomAdminService.findAllBySearchCondition(search, pageable);
+        Page<SelectRoomForAdminDTO> allBySearchCondition = roomAdminService.findAllBySearchCondition(search, paging, pageable);
         return ResponseEntity.ok(allBySearchCondition);
     }
 
+    // 채팅방 내보내기 (NDJSON/CSV 스트리밍)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRoom(
+            SearchRoomRequest search,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        // 관리자 확인
+        if (userDetails == null || !userDetails.getUserEntity().getRole().equals(UserEntity.Role.ADMIN)) {
+            return ResponseEntity.status(403).build(); // Forbidden
+        }
+
+        return ExportResponses.of("rooms", format, gzip, out -> roomAdminService.exportBySearchCondition(search, format, gzip, out));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<SelectRoomForAdminDTO> getRoomDetail(
             @PathVariable Long id,
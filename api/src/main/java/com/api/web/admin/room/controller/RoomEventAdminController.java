@@ -0,0 +1,61 @@
+package com.api.web.admin.room.controller;
+
+import com.api.domain.chat.model.RoomEventDeadLetterDTO;
+import com.api.domain.chat.redis.service.RoomEventDeadLetters;
+import com.api.domain.user.entity.UserEntity;
+import com.api.security.model.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/room/events/dead-letters")
+@RequiredArgsConstructor
+public class RoomEventAdminController {
+    private final RoomEventDeadLetters roomEventDeadLetters;
+
+    // dead-letter 목록 조회 (최신순)
+    @GetMapping
+    public ResponseEntity<List<RoomEventDeadLetterDTO>> getDeadLetters(
+            @RequestParam(defaultValue = "50") int count,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        // 관리자 확인
+        if (userDetails == null || !userDetails.getUserEntity().getRole().equals(UserEntity.Role.ADMIN)) {
+            return ResponseEntity.status(403).build(); // Forbidden
+        }
+
+        return ResponseEntity.ok(roomEventDeadLetters.findRecent(count));
+    }
+
+    // dead-letter를 room:events로 다시 추가
+    @PostMapping("/{id}/replay")
+    public ResponseEntity<Void> replayDeadLetter(
+            @PathVariable String id,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        // 관리자 확인
+        if (userDetails == null || !userDetails.getUserEntity().getRole().equals(UserEntity.Role.ADMIN)) {
+            return ResponseEntity.status(403).build(); // Forbidden
+        }
+
+        return roomEventDeadLetters.replay(id) ? ResponseEntity.ok().build() : ResponseEntity.notFound().build();
+    }
+
+    // dead-letter 삭제
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> discardDeadLetter(
+            @PathVariable String id,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        // 관리자 확인
+        if (userDetails == null || !userDetails.getUserEntity().getRole().equals(UserEntity.Role.ADMIN)) {
+            return ResponseEntity.status(403).build(); // Forbidden
+        }
+
+        return roomEventDeadLetters.discard(id) ? ResponseEntity.ok().build() : ResponseEntity.notFound().build();
+    }
+}
@@ -1,5 +1,8 @@
 package com.api.web.admin.user.controller;
 
+import com.api.common.export.ExportFormat;
+import com.api.common.export.ExportResponses;
+import com.api.common.query.AdminPageRequest;
 import com.api.domain.user.entity.UserEntity;
 import com.api.domain.user.model.CreateUserRequest;
 import com.api.domain.user.model.ModifyUserRequest;
@@ -14,6 +17,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/admin/user")
@@ -24,6 +28,7 @@ public class UserAdminController {
     @GetMapping("/search")
     public ResponseEntity<Page<SelectUserForAdminDTO>> searchUsers(
             SearchUserRequest search,
+            AdminPageRequest paging,
             @PageableDefault Pageable pageable,
             @AuthenticationPrincipal CustomUserDetails userDetails
     ) {
@@ -33,10 +38,26 @@ public class UserAdminController {
         }
 
         // 검색 로직 구현
-        Page<SelectUserForAdminDTO> searchResult = userService.findAllBySearchCondition(search, pageable);
+        Page<SelectUserForAdminDTO> searchResult = userService.findAllBySearchCondition(search, paging, pageable);
         return ResponseEntity.ok(searchResult);
     }
 
+    // 사용자 내보내기 (NDJSON/CSV 스트리밍)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            SearchUserRequest search,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        // 관리자 확인
+        if (userDetails == null || !userDetails.getUserEntity().getRole().equals(UserEntity.Role.ADMIN)) {
+            return ResponseEntity.status(403).build(); // Forbidden
+        }
+
+        return ExportResponses.of("users", format, gzip, out -> userService.exportBySearchCondition(search, format, gzip, out));
+    }
+
     @PostMapping("/create")
     public ResponseEntity<Void> createUser(
             @RequestBody CreateUserRequest request,
@@ -1,6 +1,7 @@
 package com.api.web.domain.room.controller;
 
 import com.api.common.model.CustomSlice;
+import com.api.domain.HistoryMessage.model.ResponseReadMessagePageDTO;
 import com.api.domain.chat.facade.ChatFacade;
 import com.api.domain.room.model.ImageVO;
 import com.api.domain.room.model.RequestCreateRoomDTO;
@@ -83,6 +84,17 @@ public class RoomController {
         return ResponseEntity.ok(chatFacade.getRoomUserList(roomId));
     }
 
+    // 이전 메시지 불러오기 (before: 마지막으로 받은 가장 오래된 메시지 ID, 없으면 최신부터)
+    @GetMapping("/{roomId}/messages")
+    public ResponseEntity<ResponseReadMessagePageDTO> getMessages(
+            @PathVariable Long roomId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        int pageSize = Math.clamp(limit, 1, 100);
+        return ResponseEntity.ok(chatFacade.getMessagesBefore(String.valueOf(roomId), before, pageSize));
+    }
+
     /**
      * 업데이트된 Base64 썸네일 저장
      */
@@ -0,0 +1,108 @@
+package com.api.common.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jooq.Cursor;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Record2;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdminExportWriterTest {
+    private static final Field<Long> ID = DSL.field(DSL.name("id"), Long.class);
+    private static final Field<String> CONTENT = DSL.field(DSL.name("content"), String.class);
+
+    private final AdminExportWriter writer = new AdminExportWriter(new ObjectMapper());
+
+    @Test
+    @DisplayName("NDJSON으로 행마다 JSON 한 줄씩 기록하는지 테스트")
+    void writeNdjson() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows;
+        try (Cursor<Record> cursor = cursor()) {
+            rows = writer.write(cursor, ExportFormat.NDJSON, false, out);
+        }
+
+        assertEquals(2, rows);
+        assertEquals("{\"id\":1,\"content\":\"hello\"}\n{\"id\":2,\"content\":\"a,b\"}\n",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("CSV는 헤더 줄 다음에 이스케이프된 행을 기록하는지 테스트")
+    void writeCsv() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (Cursor<Record> cursor = cursor()) {
+            writer.write(cursor, ExportFormat.CSV, false, out);
+        }
+
+        assertEquals("id,content\r\n1,hello\r\n2,\"a,b\"\r\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("gzip으로 기록한 결과를 풀면 압축하지 않은 결과와 같은지 테스트")
+    void writeGzipRoundTrip() throws IOException {
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        try (Cursor<Record> cursor = cursor()) {
+            writer.write(cursor, ExportFormat.CSV, false, plain);
+        }
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (Cursor<Record> cursor = cursor()) {
+            writer.write(cursor, ExportFormat.CSV, true, compressed);
+        }
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertArrayEquals(plain.toByteArray(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("CSV 값의 쉼표/따옴표/줄바꿈을 이스케이프하는지 테스트")
+    void escapeCsv() {
+        assertEquals("plain", AdminExportWriter.escapeCsv("plain"));
+        assertEquals("\"a,b\"", AdminExportWriter.escapeCsv("a,b"));
+        assertEquals("\"say \"\"hi\"\"\"", AdminExportWriter.escapeCsv("say \"hi\""));
+        assertEquals("\"line1\nline2\"", AdminExportWriter.escapeCsv("line1\nline2"));
+    }
+
+    @Test
+    @DisplayName("수식으로 해석되는 값을 무력화하는지 테스트")
+    void escapeFormula() {
+        assertEquals("'=SUM(A1:A2)", AdminExportWriter.escapeCsv("=SUM(A1:A2)"));
+        assertEquals("'@cmd", AdminExportWriter.escapeCsv("@cmd"));
+        assertEquals("\"'=1,2\"", AdminExportWriter.escapeCsv("=1,2"));
+    }
+
+    /**
+     * DB 없이 MockConnection이 돌려주는 두 행으로 커서를 엽니다.
+     */
+    private static Cursor<Record> cursor() {
+        DSLContext mock = DSL.using(new MockConnection(context -> {
+            DSLContext create = DSL.using(SQLDialect.MYSQL);
+            Result<Record2<Long, String>> result = create.newResult(ID, CONTENT);
+            result.add(create.newRecord(ID, CONTENT).values(1L, "hello"));
+            result.add(create.newRecord(ID, CONTENT).values(2L, "a,b"));
+            return new MockResult[]{new MockResult(result.size(), result)};
+        }), SQLDialect.MYSQL);
+
+        return mock.select(List.of(ID, CONTENT)).from(DSL.table(DSL.name("history_message"))).fetchLazy();
+    }
+}
@@ -0,0 +1,53 @@
+package com.api.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnowflakeIdGeneratorTest {
+
+    private final Instant epoch = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    @DisplayName("발급된 ID가 중복 없이 단조 증가하는지 테스트")
+    void monotonicAndUnique() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(epoch, () -> 7);
+        Set<Long> ids = new HashSet<>();
+
+        long previous = 0;
+        for (int i = 0; i < 100_000; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous, "ID는 단조 증가해야 함");
+            assertTrue(ids.add(id), "ID는 중복되지 않아야 함");
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("워커 ID가 다르면 같은 밀리초에도 ID가 겹치지 않는지 테스트")
+    void workerIdSeparatesNodes() {
+        long a = new SnowflakeIdGenerator(epoch, () -> 1).nextId();
+        long b = new SnowflakeIdGenerator(epoch, () -> 2).nextId();
+
+        assertNotEquals(a, b);
+        assertEquals(1, (a >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_WORKER_ID);
+        assertEquals(2, (b >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_WORKER_ID);
+    }
+
+    @Test
+    @DisplayName("ID에서 발급 시각을 복원할 수 있는지 테스트")
+    void timestampOf() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(epoch, () -> 0);
+        Instant before = Instant.now();
+        long id = generator.nextId();
+
+        Duration drift = Duration.between(before, generator.timestampOf(id)).abs();
+        assertTrue(drift.toMillis() < 1000);
+    }
+}
@@ -0,0 +1,191 @@
+package com.api.common.query;
+
+import com.api.config.properties.AdminQueryProperties;
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Record1;
+import org.jooq.Record2;
+import org.jooq.Record3;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockExecuteContext;
+import org.jooq.tools.jdbc.MockResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+class AdminQueryExecutorTest {
+    private static final Table<Record> ITEM = DSL.table(DSL.name("item"));
+    private static final Field<Long> ID = DSL.field(DSL.name("id"), Long.class);
+    private static final Field<String> NAME = DSL.field(DSL.name("name"), String.class);
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private final DSLContext create = DSL.using(SQLDialect.MYSQL);
+    private final List<MockExecuteContext> executed = new CopyOnWriteArrayList<>();
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ValueOperations<String, String> valueOperations;
+
+    // 목 DB 응답
+    private List<Long> pageIds = List.of();
+    private long countResult;
+    private long explainRows;
+
+    private AdminQueryExecutor executor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        DSLContext dslContext = DSL.using(new MockConnection(context -> {
+            executed.add(context);
+            return new MockResult[]{respond(context.sql().toLowerCase())};
+        }), SQLDialect.MYSQL);
+
+        executor = new AdminQueryExecutor(dslContext, stringRedisTemplate, new AdminQueryProperties(AdminCountMode.CACHED, TTL));
+    }
+
+    @Test
+    @DisplayName("pageSize + 1행을 읽어 다음 페이지가 있으면 마지막 행의 key를 nextCursor로 주는지 테스트")
+    void nextCursorWhenMoreRows() {
+        pageIds = List.of(50L, 49L, 48L);
+
+        AdminPage<Item> page = executor.fetchPage(query(), new AdminPageRequest(AdminCountMode.NONE, null), PageRequest.of(0, 2));
+
+        assertEquals(List.of(50L, 49L), page.getContent().stream().map(item -> item.id).toList());
+        assertEquals(49L, page.getNextCursor());
+        assertTrue(page.hasNext());
+        // NONE: COUNT 없이 지금까지 본 행 수 + 다음 페이지 여부
+        assertEquals(3, page.getTotalElements());
+        assertEquals(1, executed.size(), "COUNT를 실행하지 않아야 함");
+    }
+
+    @Test
+    @DisplayName("cursor가 있으면 OFFSET 대신 key seek 조건으로 조회하고, 마지막 페이지면 nextCursor가 없는지 테스트")
+    void cursorSeek() {
+        pageIds = List.of(48L);
+
+        AdminPage<Item> page = executor.fetchPage(query(), new AdminPageRequest(AdminCountMode.NONE, 49L), PageRequest.of(5, 2));
+
+        MockExecuteContext select = executed.getFirst();
+        assertTrue(select.sql().contains("`id` < ?"), select.sql());
+        assertTrue(select.sql().contains("order by `id` desc"), select.sql());
+        assertTrue(Arrays.asList(select.bindings()).contains(49L));
+        assertFalse(Arrays.asList(select.bindings()).contains(10L), "cursor가 있으면 OFFSET을 쓰지 않아야 함");
+
+        assertEquals(List.of(48L), page.getContent().stream().map(item -> item.id).toList());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("EXACT 모드는 매번 COUNT 결과를 총 개수로 쓰는지 테스트")
+    void exactCount() {
+        pageIds = List.of(50L);
+        countResult = 42;
+
+        AdminPage<Item> page = executor.fetchPage(query(), new AdminPageRequest(AdminCountMode.EXACT, null), PageRequest.of(0, 2));
+
+        assertEquals(42, page.getTotalElements());
+        assertEquals(AdminCountMode.EXACT, page.getCountMode());
+        assertTrue(executed.stream().anyMatch(context -> context.sql().toLowerCase().startsWith("select count(*)")));
+        verifyNoInteractions(valueOperations);
+    }
+
+    @Test
+    @DisplayName("CACHED 모드는 캐시가 없으면 COUNT 후 TTL로 저장하고, 있으면 COUNT 없이 재사용하는지 테스트")
+    void cachedCount() {
+        pageIds = List.of(50L);
+        countResult = 42;
+
+        // countMode가 없으면 기본값(CACHED)
+        AdminPage<Item> miss = executor.fetchPage(query(), AdminPageRequest.defaults(), PageRequest.of(0, 2));
+
+        assertEquals(42, miss.getTotalElements());
+        assertEquals(AdminCountMode.CACHED, miss.getCountMode());
+        verify(valueOperations).set(startsWith("admin:count:item:"), eq("42"), eq(TTL));
+
+        executed.clear();
+        when(valueOperations.get(anyString())).thenReturn("77");
+
+        AdminPage<Item> hit = executor.fetchPage(query(), AdminPageRequest.defaults(), PageRequest.of(0, 2));
+
+        assertEquals(77, hit.getTotalElements());
+        assertEquals(1, executed.size(), "캐시가 있으면 COUNT를 실행하지 않아야 함");
+    }
+
+    @Test
+    @DisplayName("ESTIMATED 모드는 COUNT 대신 EXPLAIN 예상 행 수를 쓰는지 테스트")
+    void estimatedCount() {
+        pageIds = List.of(50L);
+        explainRows = 5_000;
+
+        AdminPage<Item> page = executor.fetchPage(query(), new AdminPageRequest(AdminCountMode.ESTIMATED, null), PageRequest.of(0, 2));
+
+        assertEquals(5_000, page.getTotalElements());
+        assertTrue(executed.stream().noneMatch(context -> context.sql().toLowerCase().startsWith("select count(*)")));
+    }
+
+    @Test
+    @DisplayName("ESTIMATED 예상 행 수가 이미 확인한 행 수보다 작으면 확인한 행 수로 보정하는지 테스트")
+    void estimatedCountFloor() {
+        pageIds = List.of(50L, 49L, 48L);
+        explainRows = 1;
+
+        AdminPage<Item> page = executor.fetchPage(query(), new AdminPageRequest(AdminCountMode.ESTIMATED, null), PageRequest.of(1, 2));
+
+        // offset 2 + 이번 페이지 2 + 다음 페이지 1
+        assertEquals(5, page.getTotalElements());
+    }
+
+    private MockResult respond(String sql) {
+        if (sql.startsWith("explain")) {
+            Field<Long> rows = DSL.field(DSL.name("rows"), Long.class);
+            Field<Double> filtered = DSL.field(DSL.name("filtered"), Double.class);
+            Result<Record3<Long, Long, Double>> result = create.newResult(ID, rows, filtered);
+            result.add(create.newRecord(ID, rows, filtered).values(1L, explainRows, 100.0));
+            return new MockResult(result.size(), result);
+        }
+        if (sql.startsWith("select count(*)")) {
+            Field<Long> count = DSL.field(DSL.name("count"), Long.class);
+            Result<Record1<Long>> result = create.newResult(count);
+            result.add(create.newRecord(count).values(countResult));
+            return new MockResult(1, result);
+        }
+
+        Result<Record2<Long, String>> result = create.newResult(ID, NAME);
+        pageIds.forEach(id -> result.add(create.newRecord(ID, NAME).values(id, "item-" + id)));
+        return new MockResult(result.size(), result);
+    }
+
+    private static AdminQuery<Item> query() {
+        return new AdminQuery<>(ITEM, DSL.trueCondition(), List.of(ID, NAME), ID, true, Item.class);
+    }
+
+    /**
+     * 결과 DTO (컬럼 이름과 같은 public 필드로 매핑)
+     */
+    public static class Item {
+        public Long id;
+        public String name;
+    }
+}
@@ -0,0 +1,98 @@
+package com.api.domain.HistoryMessage.archive;
+
+import com.api.domain.chat.model.ChatMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistorySegmentFileTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("세그먼트에 기록한 메시지를 before 기준으로 최신순 조회하는지 테스트")
+    void readBeforeAcrossBlocks() throws Exception {
+        List<ChatMessage> messages = messages(1000);
+        Path segment = dir.resolve("20250101.seg");
+        Path index = dir.resolve("20250101.idx");
+
+        write(segment, index, messages, 64);
+
+        List<ChatMessage> page = HistorySegmentFile.readBefore(segment, index, 500L, 100);
+        assertEquals(100, page.size());
+        assertEquals(499L, page.getFirst().getId());
+        assertEquals(400L, page.getLast().getId());
+        assertEquals("메시지 499", page.getFirst().getContent());
+
+        List<ChatMessage> head = HistorySegmentFile.readBefore(segment, index, 10L, 100);
+        assertEquals(10, head.size(), "처음 구간은 남은 만큼만 반환");
+
+        List<ChatMessage> latest = HistorySegmentFile.readBefore(segment, index, null, 3);
+        assertEquals(List.of(999L, 998L, 997L), latest.stream().map(ChatMessage::getId).toList());
+    }
+
+    @Test
+    @DisplayName("세그먼트 전체를 오래된 순으로 읽는지 테스트")
+    void readAll() throws Exception {
+        List<ChatMessage> messages = messages(300);
+        Path segment = dir.resolve("20250102.seg");
+        Path index = dir.resolve("20250102.idx");
+
+        write(segment, index, messages, 128);
+
+        List<ChatMessage> all = HistorySegmentFile.readAll(segment);
+        assertEquals(300, all.size());
+        assertEquals(0L, all.getFirst().getId());
+        assertEquals(299L, all.getLast().getId());
+    }
+
+    @Test
+    @DisplayName("commit 없이 닫으면 임시 파일을 지우고 기존 세그먼트를 그대로 두는지 테스트")
+    void closeWithoutCommitKeepsExistingSegment() throws Exception {
+        Path segment = dir.resolve("20250103.seg");
+        Path index = dir.resolve("20250103.idx");
+        write(segment, index, messages(10), 4);
+
+        try (HistorySegmentFile.Writer writer = HistorySegmentFile.Writer.open(segment, index, 4)) {
+            for (ChatMessage message : messages(100)) {
+                writer.append(message);
+            }
+            // 실패를 가정하고 commit하지 않음
+        }
+
+        assertEquals(10, HistorySegmentFile.readAll(segment).size());
+        assertFalse(Files.exists(dir.resolve("20250103.seg.tmp")));
+        assertFalse(Files.exists(dir.resolve("20250103.idx.tmp")));
+    }
+
+    /**
+     * HistoryColdArchive와 같이 Writer에 한 건씩 추가한 뒤 commit합니다.
+     */
+    private static void write(Path segment, Path index, List<ChatMessage> messages, int blockSize) throws Exception {
+        try (HistorySegmentFile.Writer writer = HistorySegmentFile.Writer.open(segment, index, blockSize)) {
+            for (ChatMessage message : messages) {
+                writer.append(message);
+            }
+            writer.commit();
+        }
+    }
+
+    private static List<ChatMessage> messages(int count) {
+        List<ChatMessage> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ChatMessage message = new ChatMessage(ChatMessage.MessageType.CHAT, "user", "메시지 " + i, "room-1");
+            message.assignId(i);
+            message.assignTimestamp(1_735_689_600_000L + i);
+            messages.add(message);
+        }
+        return messages;
+    }
+}
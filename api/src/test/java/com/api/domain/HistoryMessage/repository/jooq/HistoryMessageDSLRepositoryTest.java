@@ -1,5 +1,7 @@
 package com.api.domain.HistoryMessage.repository.jooq;
 
+import com.api.common.query.AdminPageRequest;
+import com.api.common.query.AdminQueryExecutor;
 import com.api.domain.HistoryMessage.model.SearchHistoryMessageRequest;
 import com.api.domain.HistoryMessage.model.SelectHistoryMessageForAdminDTO;
 import com.api.domain.HistoryMessage.model.enums.SearchHistoryMessageType;
@@ -32,6 +34,9 @@ class HistoryMessageDSLRepositoryTest {
 
     @Mock
     private DSLContext dslContext;
+
+    @Mock
+    private AdminQueryExecutor adminQueryExecutor;
     
     @InjectMocks
     @Spy
@@ -55,7 +60,7 @@ class HistoryMessageDSLRepositoryTest {
         // 메서드 호출 결과 모킹
         doAnswer(invocation -> {
             SearchHistoryMessageRequest request = invocation.getArgument(0);
-            Pageable pageable = invocation.getArgument(1);
+            Pageable pageable = invocation.getArgument(2);
             
             // 검색 조건에 따라 필터링된 결과 반환
             List<SelectHistoryMessageForAdminDTO> filteredList;
@@ -90,7 +95,7 @@ class HistoryMessageDSLRepositoryTest {
                 : Collections.emptyList();
                 
             return new PageImpl<>(pageContent, pageable, filteredList.size());
-        }).when(historyMessageDSLRepository).findAllBySearchCondition(any(), any());
+        }).when(historyMessageDSLRepository).findAllBySearchCondition(any(), any(), any());
     }
     
     @Test
@@ -100,7 +105,7 @@ class HistoryMessageDSLRepositoryTest {
         SearchHistoryMessageRequest request = new SearchHistoryMessageRequest(SearchHistoryMessageType.ALL, "", null, null);
         
         // When
-        Page<SelectHistoryMessageForAdminDTO> result = historyMessageDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectHistoryMessageForAdminDTO> result = historyMessageDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
         
         // Then
         assertNotNull(result);
@@ -117,7 +122,7 @@ class HistoryMessageDSLRepositoryTest {
         SearchHistoryMessageRequest request = new SearchHistoryMessageRequest(SearchHistoryMessageType.ROOM_ID, "room1", null, null);
         
         // When
-        Page<SelectHistoryMessageForAdminDTO> result = historyMessageDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectHistoryMessageForAdminDTO> result = historyMessageDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
         
         // Then
         assertNotNull(result);
@@ -134,7 +139,7 @@ class HistoryMessageDSLRepositoryTest {
         SearchHistoryMessageRequest request = new SearchHistoryMessageRequest(SearchHistoryMessageType.SENDER, "admin", null, null);
         
         // When
-        Page<SelectHistoryMessageForAdminDTO> result = historyMessageDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectHistoryMessageForAdminDTO> result = historyMessageDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
         
         // Then
         assertNotNull(result);
@@ -150,7 +155,7 @@ class HistoryMessageDSLRepositoryTest {
         SearchHistoryMessageRequest request = new SearchHistoryMessageRequest(SearchHistoryMessageType.CONTENT, "안녕", null, null);
         
         // When
-        Page<SelectHistoryMessageForAdminDTO> result = historyMessageDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectHistoryMessageForAdminDTO> result = historyMessageDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
         
         // Then
         assertNotNull(result);
@@ -167,7 +172,7 @@ class HistoryMessageDSLRepositoryTest {
         SearchHistoryMessageRequest request = new SearchHistoryMessageRequest(SearchHistoryMessageType.DATE, null, today, today);
         
         // When
-        Page<SelectHistoryMessageForAdminDTO> result = historyMessageDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectHistoryMessageForAdminDTO> result = historyMessageDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
         
         // Then
         assertNotNull(result);
@@ -181,7 +186,7 @@ class HistoryMessageDSLRepositoryTest {
         SearchHistoryMessageRequest request = new SearchHistoryMessageRequest(SearchHistoryMessageType.CONTENT, "존재하지않는내용", null, null);
         
         // When
-        Page<SelectHistoryMessageForAdminDTO> result = historyMessageDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectHistoryMessageForAdminDTO> result = historyMessageDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
         
         // Then
         assertNotNull(result);
@@ -197,7 +202,7 @@ class HistoryMessageDSLRepositoryTest {
         Pageable customPageable = PageRequest.of(1, 1); // 두 번째 페이지, 페이지당 1개
         
         // When
-        Page<SelectHistoryMessageForAdminDTO> result = historyMessageDSLRepository.findAllBySearchCondition(request, customPageable);
+        Page<SelectHistoryMessageForAdminDTO> result = historyMessageDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), customPageable);
         
         // Then
         assertNotNull(result);
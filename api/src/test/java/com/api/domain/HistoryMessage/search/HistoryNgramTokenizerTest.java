@@ -0,0 +1,39 @@
+package com.api.domain.HistoryMessage.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HistoryNgramTokenizerTest {
+
+    @Test
+    @DisplayName("한국어 단어를 2-gram으로 자르는지 테스트")
+    void koreanBigrams() {
+        assertEquals(Set.of("안녕", "녕하", "하세", "세요"), HistoryNgramTokenizer.tokenize("안녕하세요"));
+    }
+
+    @Test
+    @DisplayName("공백/문장부호로 단어를 나누고 대소문자를 무시하는지 테스트")
+    void splitAndLowercase() {
+        assertEquals(Set.of("hi", "오늘", "늘도"), HistoryNgramTokenizer.tokenize("Hi, 오늘도!"));
+    }
+
+    @Test
+    @DisplayName("n-gram보다 짧은 단어와 빈 문자열은 토큰이 없는지 테스트")
+    void shortWords() {
+        assertTrue(HistoryNgramTokenizer.tokenize("a 가").isEmpty());
+        assertTrue(HistoryNgramTokenizer.tokenize("  ").isEmpty());
+        assertTrue(HistoryNgramTokenizer.tokenize(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("검색어의 n-gram이 원문 n-gram에 포함되는지 테스트")
+    void queryIsSubsetOfContent() {
+        Set<String> content = HistoryNgramTokenizer.tokenize("내일 회의는 오후 세시에 합니다");
+        Set<String> query = HistoryNgramTokenizer.tokenize("회의는");
+        assertTrue(content.containsAll(query));
+    }
+}
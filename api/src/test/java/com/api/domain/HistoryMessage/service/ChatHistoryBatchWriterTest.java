@@ -0,0 +1,150 @@
+package com.api.domain.HistoryMessage.service;
+
+import com.api.common.utils.ChatChannelUtil;
+import com.api.config.properties.ChatPersistenceProperties;
+import com.api.domain.HistoryMessage.repository.jooq.HistoryMessageDSLRepository;
+import com.api.domain.HistoryMessage.search.HistoryMessageSearchIndex;
+import com.api.domain.chat.model.ChatMessage;
+import com.api.domain.chat.model.ChatMessageCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatHistoryBatchWriterTest {
+    private static final String GROUP = "chat-persist-group";
+
+    @Mock
+    private HistoryMessageDSLRepository historyMessageDSLRepository;
+
+    @Mock
+    private HistoryMessageSearchIndex historyMessageSearchIndex;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    private ChatHistoryBatchWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForStream()).thenReturn(streamOperations);
+
+        ChatPersistenceProperties properties = new ChatPersistenceProperties(
+                500, Duration.ofMillis(200), "node-1", Duration.ofMinutes(1), Duration.ofSeconds(1), 3);
+        writer = new ChatHistoryBatchWriter(
+                historyMessageDSLRepository, historyMessageSearchIndex, stringRedisTemplate, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 레코드는 dead-letter로 옮기고 나머지는 저장하는지 테스트")
+    void malformedFrameIsDeadLettered() {
+        MapRecord<String, Object, Object> malformed = record("1-0", "{not-json");
+        MapRecord<String, Object, Object> valid = record("2-0", frame("hello"));
+
+        assertTrue(writer.flush(List.of(malformed, valid)));
+
+        MapRecord<String, String, String> deadLetter = captureDeadLetter();
+        assertEquals(ChatChannelUtil.PERSIST_DLQ_STREAM_KEY, deadLetter.getStream());
+        assertEquals("1-0", deadLetter.getValue().get("sourceId"));
+        assertEquals("{not-json", deadLetter.getValue().get("frame"));
+
+        verify(historyMessageDSLRepository).insertAll(argThat(messages -> messages.size() == 1));
+        verify(streamOperations).acknowledge(ChatChannelUtil.PERSIST_STREAM_KEY, GROUP, RecordId.of("1-0"));
+        verify(streamOperations).acknowledge(ChatChannelUtil.PERSIST_STREAM_KEY, GROUP, RecordId.of("2-0"));
+    }
+
+    @Test
+    @DisplayName("배치 저장이 실패하면 레코드별로 저장하고, 전달 한도에 도달한 실패 레코드는 dead-letter로 옮기는지 테스트")
+    void poisonRecordIsDeadLetteredAfterMaxDeliveries() {
+        failInsertOf("poison");
+        pendingDeliveries("2-0", 3);
+
+        MapRecord<String, Object, Object> valid = record("1-0", frame("hello"));
+        MapRecord<String, Object, Object> poison = record("2-0", frame("poison"));
+
+        assertTrue(writer.flush(List.of(valid, poison)));
+
+        verify(streamOperations).acknowledge(ChatChannelUtil.PERSIST_STREAM_KEY, GROUP, RecordId.of("1-0"));
+        verify(streamOperations).acknowledge(ChatChannelUtil.PERSIST_STREAM_KEY, GROUP, RecordId.of("2-0"));
+        assertEquals("2-0", captureDeadLetter().getValue().get("sourceId"));
+    }
+
+    @Test
+    @DisplayName("전달 한도에 도달하지 않은 실패 레코드는 pending으로 남기는지 테스트")
+    void failedRecordStaysPendingBelowMaxDeliveries() {
+        failInsertOf("poison");
+        pendingDeliveries("2-0", 1);
+
+        MapRecord<String, Object, Object> valid = record("1-0", frame("hello"));
+        MapRecord<String, Object, Object> poison = record("2-0", frame("poison"));
+
+        assertFalse(writer.flush(List.of(valid, poison)));
+
+        verify(streamOperations).acknowledge(ChatChannelUtil.PERSIST_STREAM_KEY, GROUP, RecordId.of("1-0"));
+        verify(streamOperations, never()).acknowledge(ChatChannelUtil.PERSIST_STREAM_KEY, GROUP, RecordId.of("2-0"));
+        verify(streamOperations, never()).add(any(MapRecord.class));
+    }
+
+    private void failInsertOf(String content) {
+        when(historyMessageDSLRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<ChatMessage> messages = invocation.getArgument(0);
+            if (messages.stream().anyMatch(message -> content.equals(message.getContent()))) {
+                throw new IllegalStateException("Data too long for column 'content'");
+            }
+            return messages.size();
+        });
+    }
+
+    private void pendingDeliveries(String id, long deliveries) {
+        when(streamOperations.pending(eq(ChatChannelUtil.PERSIST_STREAM_KEY), any(Consumer.class), any(Range.class), anyLong()))
+                .thenReturn(new PendingMessages(GROUP, List.of(new PendingMessage(
+                        RecordId.of(id), Consumer.from(GROUP, "node-1"), Duration.ofSeconds(1), deliveries))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private MapRecord<String, String, String> captureDeadLetter() {
+        ArgumentCaptor<MapRecord<String, String, String>> captor = ArgumentCaptor.forClass(MapRecord.class);
+        verify(streamOperations).add(captor.capture());
+        return captor.getValue();
+    }
+
+    private static MapRecord<String, Object, Object> record(String id, String frame) {
+        return StreamRecords.newRecord()
+                .in(ChatChannelUtil.PERSIST_STREAM_KEY)
+                .withId(RecordId.of(id))
+                .ofMap(Map.<Object, Object>of("frame", frame));
+    }
+
+    private static String frame(String content) {
+        return new String(ChatMessageCodec.encode(new ChatMessage(ChatMessage.MessageType.CHAT, "alice", content, "1")), StandardCharsets.UTF_8);
+    }
+}
@@ -1,9 +1,10 @@
 package com.api.domain.Notice.repository.jooq;
 
+import com.api.common.query.AdminPageRequest;
+import com.api.common.query.AdminQueryExecutor;
 import com.api.domain.Notice.model.SearchNoticeRequest;
 import com.api.domain.Notice.model.SelectNoticeForAdminDTO;
 import com.api.domain.Notice.model.enums.SearchNoticeType;
-import org.jooq.DSLContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,7 +32,7 @@ import static org.mockito.Mockito.doAnswer;
 class NoticeDSLRepositoryTest {
     
     @Mock
-    private DSLContext dslContext;
+    private AdminQueryExecutor adminQueryExecutor;
     
     @InjectMocks
     @Spy
@@ -54,7 +55,7 @@ class NoticeDSLRepositoryTest {
         // DSLContext와 메서드 체이닝을 일일이 모킹하는 대신 최종 결과만 모킹
         doAnswer(invocation -> {
             SearchNoticeRequest request = invocation.getArgument(0);
-            Pageable pageable = invocation.getArgument(1);
+            Pageable pageable = invocation.getArgument(2);
             
             // 검색 조건에 따라 필터링된 결과 반환
             List<SelectNoticeForAdminDTO> filteredList = switch (request.searchType()) {
@@ -83,7 +84,7 @@ class NoticeDSLRepositoryTest {
                 : Collections.emptyList();
                 
             return new PageImpl<>(pageContent, pageable, filteredList.size());
-        }).when(noticeDSLRepository).findAllBySearchCondition(any(), any());
+        }).when(noticeDSLRepository).findAllBySearchCondition(any(), any(), any());
     }
     
     @Test
@@ -93,7 +94,7 @@ class NoticeDSLRepositoryTest {
         SearchNoticeRequest request = new SearchNoticeRequest(SearchNoticeType.TITLE, "제목1", null, null);
         
         // When
-        Page<SelectNoticeForAdminDTO> result = noticeDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectNoticeForAdminDTO> result = noticeDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
         
         // Then
         assertNotNull(result);
@@ -108,7 +109,7 @@ class NoticeDSLRepositoryTest {
         SearchNoticeRequest request = new SearchNoticeRequest(SearchNoticeType.CONTENT, "내용2", null, null);
         
         // When
-        Page<SelectNoticeForAdminDTO> result = noticeDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectNoticeForAdminDTO> result = noticeDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
         
         // Then
         assertNotNull(result);
@@ -123,7 +124,7 @@ class NoticeDSLRepositoryTest {
         SearchNoticeRequest request = new SearchNoticeRequest(SearchNoticeType.AUTHOR, "관리자", null, null);
         
         // When
-        Page<SelectNoticeForAdminDTO> result = noticeDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectNoticeForAdminDTO> result = noticeDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
         
         // Then
         assertNotNull(result);
@@ -139,7 +140,7 @@ class NoticeDSLRepositoryTest {
         SearchNoticeRequest request = new SearchNoticeRequest(SearchNoticeType.DATE, null, today, today);
         
         // When
-        Page<SelectNoticeForAdminDTO> result = noticeDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectNoticeForAdminDTO> result = noticeDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
         
         // Then
         assertNotNull(result);
@@ -154,7 +155,7 @@ class NoticeDSLRepositoryTest {
         SearchNoticeRequest request = new SearchNoticeRequest(SearchNoticeType.ALL, "", null, null);
         
         // When
-        Page<SelectNoticeForAdminDTO> result = noticeDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectNoticeForAdminDTO> result = noticeDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
         
         // Then
         assertNotNull(result);
@@ -169,7 +170,7 @@ class NoticeDSLRepositoryTest {
         SearchNoticeRequest request = new SearchNoticeRequest(SearchNoticeType.TITLE, "존재하지않는제목", null, null);
         
         // When
-        Page<SelectNoticeForAdminDTO> result = noticeDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectNoticeForAdminDTO> result = noticeDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
         
         // Then
         assertNotNull(result);
@@ -185,7 +186,7 @@ class NoticeDSLRepositoryTest {
         Pageable customPageable = PageRequest.of(1, 1); // 두 번째 페이지, 페이지당 1개
         
         // When
-        Page<SelectNoticeForAdminDTO> result = noticeDSLRepository.findAllBySearchCondition(request, customPageable);
+        Page<SelectNoticeForAdminDTO> result = noticeDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), customPageable);
         
         // Then
         assertNotNull(result);
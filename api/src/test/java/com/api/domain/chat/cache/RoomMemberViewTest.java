@@ -0,0 +1,49 @@
+package com.api.domain.chat.cache;
+
+import com.api.domain.chat.model.MemberDelta;
+import com.api.domain.user.model.RequestReadUserDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomMemberViewTest {
+
+    private RequestReadUserDTO member(String userName) {
+        return RequestReadUserDTO.builder().userName(userName).build();
+    }
+
+    private List<String> names(RoomMemberView view) {
+        return view.snapshot().stream().map(RequestReadUserDTO::getUserName).toList();
+    }
+
+    @Test
+    @DisplayName("워밍 이후 변경분이 바로 반영되는지 테스트")
+    void applyAfterWarm() {
+        RoomMemberView view = new RoomMemberView();
+        view.warm(List.of(member("user1"), member("user2")));
+
+        view.apply(MemberDelta.added(member("user3")));
+        view.apply(MemberDelta.removed(member("user1")));
+
+        assertEquals(List.of("user2", "user3"), names(view));
+    }
+
+    @Test
+    @DisplayName("워밍 전에 도착한 변경분이 스냅샷 이후에 적용되는지 테스트")
+    void pendingReplayedOnWarm() {
+        RoomMemberView view = new RoomMemberView();
+        view.apply(MemberDelta.removed(member("user1")));
+        view.apply(MemberDelta.added(member("user3")));
+
+        assertFalse(view.isWarmed());
+
+        // 스냅샷에 이미 user3가 있어도 중복되지 않아야 함
+        view.warm(List.of(member("user1"), member("user2"), member("user3")));
+
+        assertTrue(view.isWarmed());
+        assertEquals(List.of("user2", "user3"), names(view));
+    }
+}
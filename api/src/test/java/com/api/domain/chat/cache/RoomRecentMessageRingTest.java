@@ -0,0 +1,49 @@
+package com.api.domain.chat.cache;
+
+import com.api.domain.chat.model.ChatMessage;
+import com.api.domain.chat.model.ChatMessageCodec;
+import com.api.domain.chat.model.ChatMessageHeader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomRecentMessageRingTest {
+
+    private byte[] frame(long seq) {
+        ChatMessage message = new ChatMessage(ChatMessage.MessageType.CHAT, "user1", "msg" + seq, "1");
+        message.assignSeq(seq);
+        return ChatMessageCodec.encode(message);
+    }
+
+    private List<Long> seqs(List<byte[]> frames) {
+        return frames.stream().map(f -> ChatMessageHeader.peek(f).seq()).toList();
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래된 프레임부터 덮어쓰는지 테스트")
+    void appendOverwritesOldest() {
+        RoomRecentMessageRing ring = new RoomRecentMessageRing(3);
+        for (long seq = 1; seq <= 5; seq++) {
+            ring.append(frame(seq));
+        }
+
+        assertEquals(List.of(5L, 4L, 3L), seqs(ring.snapshotNewestFirst()));
+    }
+
+    @Test
+    @DisplayName("워밍 시 이미 수신한 프레임보다 오래된 Redis 히스토리만 앞에 채우는지 테스트")
+    void warmMergesWithReceivedFrames() {
+        RoomRecentMessageRing ring = new RoomRecentMessageRing(4);
+        ring.append(frame(4));
+        ring.append(frame(5));
+
+        // Redis 히스토리(최신순)는 구독 직후 수신한 4를 포함할 수 있음
+        ring.warm(List.of(frame(4), frame(3), frame(2), frame(1)));
+
+        assertTrue(ring.isWarmed());
+        assertEquals(List.of(5L, 4L, 3L, 2L), seqs(ring.snapshotNewestFirst()));
+    }
+}
@@ -0,0 +1,70 @@
+package com.api.domain.chat.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 기존 이중 인코딩 대비 단일 인코딩의 메시지당 바이트/CPU 절감량 벤치마크.
+ * 단위 테스트(test)에서는 제외되며 ./gradlew benchmark 로만 실행합니다.
+ */
+@Tag("benchmark")
+class ChatMessageCodecBenchmark {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private final ChatMessage message = new ChatMessage(
+            ChatMessage.MessageType.CHAT, "user1", "안녕하세요! \"따옴표\"가 들어간 메시지입니다.", "42");
+
+    @Test
+    @DisplayName("기존 이중 인코딩 대비 메시지당 바이트/CPU 절감량 벤치마크")
+    void benchmarkAgainstDoubleEncoding() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        // 기존 redisTemplate 값 직렬화와 동일하게, 이미 직렬화된 JSON 문자열을 한 번 더 직렬화
+        Jackson2JsonRedisSerializer<Object> legacySerializer = new Jackson2JsonRedisSerializer<>(Object.class);
+
+        byte[] legacy = legacySerializer.serialize(message.toJson());
+        byte[] single = ChatMessageCodec.encode(message);
+
+        // 기존 경로: toJson → 문자열 재직렬화 → 수신 측 문자열 해제 → 객체 파싱 → 브로드캐스트용 toJson
+        for (int i = 0; i < WARMUP; i++) {
+            legacyRoundTrip(mapper, legacySerializer);
+        }
+        long legacyStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            legacyRoundTrip(mapper, legacySerializer);
+        }
+        long legacyNanos = System.nanoTime() - legacyStart;
+
+        // 신규 경로: 한 번 인코딩 → 수신 측 헤더 peek → 원본 바이트 전달
+        for (int i = 0; i < WARMUP; i++) {
+            singleRoundTrip();
+        }
+        long singleStart = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            singleRoundTrip();
+        }
+        long singleNanos = System.nanoTime() - singleStart;
+
+        System.out.printf("[ChatMessageCodec] bytes/msg: legacy=%d, single=%d (-%d)%n",
+                legacy.length, single.length, legacy.length - single.length);
+        System.out.printf("[ChatMessageCodec] ns/msg: legacy=%d, single=%d%n",
+                legacyNanos / ITERATIONS, singleNanos / ITERATIONS);
+    }
+
+    private String legacyRoundTrip(ObjectMapper mapper, Jackson2JsonRedisSerializer<Object> legacySerializer) throws Exception {
+        byte[] published = legacySerializer.serialize(message.toJson());
+        String quoted = new String(published, StandardCharsets.UTF_8);
+        String unescaped = mapper.readValue(quoted, String.class);
+        return mapper.readValue(unescaped, ChatMessage.class).toJson();
+    }
+
+    private ChatMessageHeader singleRoundTrip() {
+        return ChatMessageHeader.peek(ChatMessageCodec.encode(message));
+    }
+}
@@ -0,0 +1,68 @@
+package com.api.domain.chat.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChatMessageCodecTest {
+
+    private final ChatMessage message = new ChatMessage(
+            ChatMessage.MessageType.CHAT, "user1", "안녕하세요! \"따옴표\"가 들어간 메시지입니다.", "42");
+
+    @Test
+    @DisplayName("인코딩 후 디코딩하면 원본과 같은 메시지가 되는지 테스트")
+    void encodeDecode() {
+        ChatMessage decoded = ChatMessageCodec.decode(ChatMessageCodec.encode(message));
+
+        assertEquals(message.getType(), decoded.getType());
+        assertEquals(message.getSender(), decoded.getSender());
+        assertEquals(message.getContent(), decoded.getContent());
+        assertEquals(message.getRoomId(), decoded.getRoomId());
+    }
+
+    @Test
+    @DisplayName("Pub/Sub 프레임이 따옴표로 감싼 이중 인코딩이 아닌 JSON 객체인지 테스트")
+    void frameIsSingleEncoded() {
+        String frame = new String(ChatMessageCodec.encode(message), StandardCharsets.UTF_8);
+
+        assertTrue(frame.startsWith("{"), "프레임은 JSON 객체여야 함");
+        assertEquals(frame, message.toJson(), "toJson과 코덱 결과가 같아야 함");
+    }
+
+    @Test
+    @DisplayName("단일 인코딩 프레임이 기존 이중 인코딩보다 작은지 테스트")
+    void frameSmallerThanDoubleEncoding() {
+        // 기존 redisTemplate 값 직렬화와 동일하게, 이미 직렬화된 JSON 문자열을 한 번 더 직렬화
+        byte[] legacy = new Jackson2JsonRedisSerializer<>(Object.class).serialize(message.toJson());
+        byte[] single = ChatMessageCodec.encode(message);
+
+        // 이중 인코딩은 따옴표와 이스케이프 문자만큼 항상 더 크다
+        assertTrue(single.length < legacy.length, "단일 인코딩 프레임이 더 작아야 함");
+    }
+
+    @Test
+    @DisplayName("헤더 peek이 type, roomId만 읽어내는지 테스트")
+    void peekHeader() {
+        ChatMessageHeader header = ChatMessageHeader.peek(ChatMessageCodec.encode(message));
+
+        assertEquals(ChatMessage.MessageType.CHAT, header.type());
+        assertEquals("42", header.roomId());
+    }
+
+    @Test
+    @DisplayName("발행 시 부여된 시퀀스를 헤더 peek으로 읽어내는지 테스트")
+    void peekSequence() {
+        ChatMessage stamped = new ChatMessage(ChatMessage.MessageType.CHAT, "user1", "hi", "42");
+        stamped.assignTimestamp(1_700_000_000_000L);
+        stamped.assignSeq(7L);
+
+        ChatMessageHeader header = ChatMessageHeader.peek(ChatMessageCodec.encode(stamped));
+
+        assertEquals(7L, header.seq());
+        assertNull(ChatMessageHeader.peek(ChatMessageCodec.encode(message)).seq(), "시퀀스가 없으면 null이어야 함");
+    }
+}
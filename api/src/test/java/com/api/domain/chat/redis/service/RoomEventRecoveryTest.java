@@ -0,0 +1,160 @@
+package com.api.domain.chat.redis.service;
+
+import com.api.common.utils.ChatChannelUtil;
+import com.api.config.properties.RoomEventProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomEventRecoveryTest {
+    private static final String STREAM = ChatChannelUtil.ROOM_EVENTS_STREAM_KEY;
+    private static final String GROUP = RoomEventConsumer.GROUP;
+
+    @Mock
+    private RoomEventConsumer roomEventConsumer;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    private RoomEventRecovery recovery;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForStream()).thenReturn(streamOperations);
+
+        RoomEventProperties properties = new RoomEventProperties(
+                100, 1, 2, Duration.ofSeconds(1), Duration.ofMillis(20), "node-1",
+                Duration.ofMinutes(1), 3, 1_000_000, 10_000, Duration.ofHours(1), Duration.ofDays(7), 10_000);
+        recovery = new RoomEventRecovery(
+                roomEventConsumer, new RoomEventDeadLetters(stringRedisTemplate), stringRedisTemplate, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("claimIdle 이상 방치된 엔트리를 가져와 다시 반영하는지 테스트")
+    void staleEntryIsReapplied() {
+        pending(entry("1-0", Duration.ofMinutes(2), 1));
+        claims(record("1-0"));
+        when(roomEventConsumer.apply(anyList())).thenReturn(true);
+
+        recovery.recover();
+
+        verify(roomEventConsumer).apply(argThat(batch -> batch.size() == 1 && batch.getFirst().getId().equals(RecordId.of("1-0"))));
+        verify(streamOperations, never()).add(any(MapRecord.class));
+    }
+
+    @Test
+    @DisplayName("전달 한도에 도달한 엔트리는 반영하지 않고 dead-letter로 옮긴 뒤 ACK하는지 테스트")
+    void exhaustedEntryIsDeadLettered() {
+        pending(entry("1-0", Duration.ofMinutes(2), 3));
+        claims(record("1-0"));
+
+        recovery.recover();
+
+        verify(roomEventConsumer, never()).apply(anyList());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<MapRecord<String, String, String>> captor = ArgumentCaptor.forClass(MapRecord.class);
+        verify(streamOperations).add(captor.capture());
+        MapRecord<String, String, String> deadLetter = captor.getValue();
+        assertEquals(ChatChannelUtil.ROOM_EVENTS_DLQ_STREAM_KEY, deadLetter.getStream());
+        assertEquals("1-0", deadLetter.getValue().get("sourceId"));
+        assertEquals("3", deadLetter.getValue().get("deliveries"));
+        assertEquals(frame(), deadLetter.getValue().get(ChatChannelUtil.STREAM_FRAME_FIELD));
+
+        verify(streamOperations).acknowledge(STREAM, GROUP, RecordId.of("1-0"));
+    }
+
+    @Test
+    @DisplayName("이 노드에서 아직 큐에 있거나 반영 중인 엔트리는 가져오지 않는지 테스트")
+    void inFlightEntryIsNotClaimed() {
+        pending(entry("1-0", Duration.ofMinutes(2), 1));
+        when(roomEventConsumer.isInFlight(RecordId.of("1-0"))).thenReturn(true);
+
+        recovery.recover();
+
+        verify(streamOperations, never()).claim(any(), any(), any(), any(Duration.class), any(RecordId[].class));
+        verify(roomEventConsumer, never()).apply(anyList());
+    }
+
+    @Test
+    @DisplayName("claimIdle보다 최근에 전달된 엔트리는 가져오지 않는지 테스트")
+    void recentEntryIsNotClaimed() {
+        pending(entry("1-0", Duration.ofSeconds(10), 1));
+
+        recovery.recover();
+
+        verify(streamOperations, never()).claim(any(), any(), any(), any(Duration.class), any(RecordId[].class));
+    }
+
+    @Test
+    @DisplayName("스트림에서 이미 삭제되어 claim되지 않은 엔트리는 PEL에서만 ACK하는지 테스트")
+    void missingEntryIsAcknowledged() {
+        pending(entry("1-0", Duration.ofMinutes(2), 1), entry("2-0", Duration.ofMinutes(2), 1));
+        claims(record("1-0"));
+        when(roomEventConsumer.apply(anyList())).thenReturn(true);
+
+        recovery.recover();
+
+        verify(streamOperations).acknowledge(STREAM, GROUP, RecordId.of("2-0"));
+        verify(roomEventConsumer, times(1)).apply(anyList());
+    }
+
+    private void pending(PendingMessage... entries) {
+        when(streamOperations.pending(STREAM, GROUP))
+                .thenReturn(new PendingMessagesSummary(GROUP, entries.length, Range.unbounded(), Map.of()));
+        when(streamOperations.pending(eq(STREAM), eq(GROUP), any(Range.class), anyLong()))
+                .thenReturn(new PendingMessages(GROUP, Arrays.asList(entries)));
+    }
+
+    @SafeVarargs
+    private final void claims(MapRecord<String, Object, Object>... records) {
+        when(roomEventConsumer.getConsumerName()).thenReturn("node-1");
+        when(streamOperations.claim(eq(STREAM), eq(GROUP), eq("node-1-recovery"), any(Duration.class), any(RecordId[].class)))
+                .thenReturn(List.of(records));
+    }
+
+    private static PendingMessage entry(String id, Duration idle, long deliveries) {
+        return new PendingMessage(RecordId.of(id), Consumer.from(GROUP, "node-2-0"), idle, deliveries);
+    }
+
+    private static MapRecord<String, Object, Object> record(String id) {
+        return StreamRecords.newRecord()
+                .in(STREAM)
+                .withId(RecordId.of(id))
+                .ofMap(Map.<Object, Object>of(ChatChannelUtil.STREAM_FRAME_FIELD, frame()));
+    }
+
+    private static String frame() {
+        return "{\"type\":\"JOIN\",\"sender\":\"alice\",\"roomId\":\"1\"}";
+    }
+}
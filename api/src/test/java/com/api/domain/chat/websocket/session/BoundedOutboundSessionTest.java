@@ -0,0 +1,222 @@
+package com.api.domain.chat.websocket.session;
+
+import com.api.config.properties.ChatOutboundProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BoundedOutboundSessionTest {
+    // 프레임 하나가 4byte이므로 대기 프레임 2개까지 허용, 3개째에서 한도 초과
+    private static final int BUFFER_SIZE_LIMIT = 10;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> sent = new CopyOnWriteArrayList<>();
+    private final CountDownLatch sending = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private WebSocketSession delegate;
+    private volatile Thread writer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 첫 전송은 release 전까지 멈춰 있는 느린 클라이언트 (flush 작업이 전송 중인 상태를 재현)
+        delegate = mock(WebSocketSession.class);
+        when(delegate.getId()).thenReturn("session-1");
+        AtomicBoolean first = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            WebSocketMessage<?> message = invocation.getArgument(0);
+            sent.add(message.getPayload().toString());
+            if (first.compareAndSet(true, false)) {
+                writer = Thread.currentThread();
+                sending.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(delegate).sendMessage(any());
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST: 버퍼 한도를 넘으면 가장 오래된 대기 프레임부터 버리는지 테스트")
+    void dropOldest() throws Exception {
+        BoundedOutboundSession outbound = register(OutboundOverflowPolicy.DROP_OLDEST, Duration.ofSeconds(5));
+        blockSender(outbound);
+
+        outbound.send(text("c001"), true);
+        outbound.send(text("c002"), true);
+        outbound.send(text("c003"), true);
+
+        assertEquals(8, outbound.getBufferSize());
+        assertEquals(1, dropped(OutboundOverflowPolicy.DROP_OLDEST));
+
+        drain(outbound);
+        assertEquals(List.of("head", "c002", "c003"), sent);
+        assertEquals(0, outbound.getBufferSize());
+        assertEquals(0, outbound.getBufferDepth());
+    }
+
+    @Test
+    @DisplayName("DROP_CHAT_KEEP_SYSTEM: 버퍼 한도를 넘으면 CHAT 프레임만 버리고 시스템 프레임은 유지하는지 테스트")
+    void dropChatKeepSystem() throws Exception {
+        BoundedOutboundSession outbound = register(OutboundOverflowPolicy.DROP_CHAT_KEEP_SYSTEM, Duration.ofSeconds(5));
+        blockSender(outbound);
+
+        outbound.sendMessage(text("s001"));
+        outbound.send(text("c001"), true);
+        outbound.sendMessage(text("s002"));
+
+        assertEquals(8, outbound.getBufferSize());
+        assertEquals(1, dropped(OutboundOverflowPolicy.DROP_CHAT_KEEP_SYSTEM));
+
+        drain(outbound);
+        assertEquals(List.of("head", "s001", "s002"), sent);
+        assertEquals(0, outbound.getBufferSize());
+        assertEquals(0, outbound.getBufferDepth());
+    }
+
+    @Test
+    @DisplayName("DROP_CHAT_KEEP_SYSTEM: 시스템 프레임만으로 한도를 넘으면 연결을 끊는지 테스트")
+    void dropChatKeepSystemDisconnectsWhenOnlySystemFrames() throws Exception {
+        BoundedOutboundSession outbound = register(OutboundOverflowPolicy.DROP_CHAT_KEEP_SYSTEM, Duration.ofSeconds(5));
+        blockSender(outbound);
+
+        outbound.sendMessage(text("s001"));
+        outbound.sendMessage(text("s002"));
+        outbound.sendMessage(text("s003"));
+
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertEquals(1, evictions("buffer_size_limit"));
+        assertEquals(0, outbound.getBufferSize());
+    }
+
+    @Test
+    @DisplayName("DISCONNECT: 버퍼 한도를 넘으면 남은 프레임을 버리고 연결을 끊는지 테스트")
+    void disconnect() throws Exception {
+        BoundedOutboundSession outbound = register(OutboundOverflowPolicy.DISCONNECT, Duration.ofSeconds(5));
+        blockSender(outbound);
+
+        outbound.send(text("c001"), true);
+        outbound.send(text("c002"), true);
+        outbound.send(text("c003"), true);
+
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertEquals(1, evictions("buffer_size_limit"));
+        assertEquals(0, outbound.getBufferSize());
+        assertEquals(0, outbound.getBufferDepth());
+
+        // 퇴출 이후의 전송은 버퍼에 쌓이지 않음
+        outbound.send(text("c004"), true);
+        drain(outbound);
+        assertEquals(List.of("head"), sent);
+        assertEquals(0, outbound.getBufferSize());
+    }
+
+    @Test
+    @DisplayName("전송이 sendTimeLimit 이상 멈춰 있으면 버퍼 한도와 관계없이 연결을 끊는지 테스트")
+    void evictOnSendTimeLimit() throws Exception {
+        BoundedOutboundSession outbound = register(OutboundOverflowPolicy.DROP_OLDEST, Duration.ofMillis(50));
+        blockSender(outbound);
+
+        Thread.sleep(100);
+        outbound.send(text("c001"), true);
+
+        verify(delegate).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertEquals(1, evictions("send_time_limit"));
+        assertEquals(0, outbound.getBufferSize());
+        assertEquals(0, outbound.getBufferDepth());
+    }
+
+    @Test
+    @DisplayName("느린 세션의 전송이 멈춰 있어도 브로드캐스트 스레드는 버퍼에 넣고 바로 반환하는지 테스트")
+    void broadcastDoesNotBlockOnSlowWriter() throws Exception {
+        OutboundSessionRegistry registry = new OutboundSessionRegistry(
+                new ChatOutboundProperties(Duration.ofSeconds(5), BUFFER_SIZE_LIMIT, OutboundOverflowPolicy.DROP_OLDEST), meterRegistry);
+        BoundedOutboundSession slow = registry.register(delegate);
+
+        WebSocketSession fastDelegate = mock(WebSocketSession.class);
+        when(fastDelegate.getId()).thenReturn("session-2");
+        CountDownLatch fastReceived = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            fastReceived.countDown();
+            return null;
+        }).when(fastDelegate).sendMessage(any());
+        BoundedOutboundSession fast = registry.register(fastDelegate);
+
+        // 브로드캐스트 스레드(테스트 스레드)가 느린 세션 → 빠른 세션 순으로 전달
+        long start = System.nanoTime();
+        for (BoundedOutboundSession session : List.of(slow, fast)) {
+            session.send(text("head"), true);
+        }
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+        slow.send(text("c001"), true);
+        long elapsed = System.nanoTime() - start;
+
+        // 느린 세션이 아직 멈춰 있는 동안 빠른 세션은 이미 받았어야 함
+        assertTrue(fastReceived.await(5, TimeUnit.SECONDS), "빠른 세션이 느린 세션을 기다리지 않아야 함");
+        assertEquals(1, sent.size(), "느린 세션은 아직 첫 프레임 전송 중이어야 함");
+        assertNotSame(Thread.currentThread(), writer, "실제 전송은 브로드캐스트 스레드가 아니어야 함");
+        assertTrue(elapsed < TimeUnit.SECONDS.toNanos(1), "브로드캐스트가 느린 전송에 묶이지 않아야 함");
+
+        drain(slow);
+        assertEquals(List.of("head", "c001"), sent);
+    }
+
+    private BoundedOutboundSession register(OutboundOverflowPolicy policy, Duration sendTimeLimit) {
+        OutboundSessionRegistry registry = new OutboundSessionRegistry(
+                new ChatOutboundProperties(sendTimeLimit, BUFFER_SIZE_LIMIT, policy), meterRegistry);
+        return registry.register(delegate);
+    }
+
+    /**
+     * flush 작업이 첫 프레임을 보내다 멈추게 하여, 이후 프레임은 버퍼에 쌓이고 한도 검사를 거치게 합니다.
+     */
+    private void blockSender(BoundedOutboundSession outbound) throws InterruptedException {
+        outbound.send(text("head"), true);
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * 느린 전송을 풀어 주고 flush 작업이 버퍼를 모두 비울 때까지 기다립니다.
+     */
+    private void drain(BoundedOutboundSession outbound) throws InterruptedException {
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((outbound.isFlushing() || outbound.getBufferDepth() > 0) && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertFalse(outbound.isFlushing(), "flush 작업이 끝나야 함");
+    }
+
+    private double dropped(OutboundOverflowPolicy policy) {
+        return meterRegistry.get("chat.outbound.dropped").tag("policy", policy.name()).counter().count();
+    }
+
+    private double evictions(String reason) {
+        return meterRegistry.get("chat.outbound.evictions").tag("reason", reason).counter().count();
+    }
+
+    private static TextMessage text(String payload) {
+        return new TextMessage(payload);
+    }
+}
@@ -1,9 +1,10 @@
 package com.api.domain.room.repository.jooq;
 
+import com.api.common.query.AdminPageRequest;
+import com.api.common.query.AdminQueryExecutor;
 import com.api.domain.room.model.SearchRoomRequest;
 import com.api.domain.room.model.SearchRoomType;
 import com.api.domain.room.model.SelectRoomForAdminDTO;
-import org.jooq.DSLContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,7 +32,7 @@ import static org.mockito.Mockito.doAnswer;
 class RoomDSLRepositoryTest {
 
     @Mock
-    private DSLContext dslContext;
+    private AdminQueryExecutor adminQueryExecutor;
     
     @InjectMocks
     @Spy
@@ -53,7 +54,7 @@ class RoomDSLRepositoryTest {
         // DSLContext와 메서드 체이닝을 직접 모킹하는 대신 최종 결과만 모킹
         doAnswer(invocation -> {
             SearchRoomRequest request = invocation.getArgument(0);
-            Pageable pageable = invocation.getArgument(1);
+            Pageable pageable = invocation.getArgument(2);
             
             // 검색 조건에 따라 필터링된 결과 반환
             List<SelectRoomForAdminDTO> filteredList;
@@ -85,7 +86,7 @@ class RoomDSLRepositoryTest {
                 : Collections.emptyList();
                 
             return new PageImpl<>(pageContent, pageable, filteredList.size());
-        }).when(roomDSLRepository).findAllBySearchCondition(any(), any());
+        }).when(roomDSLRepository).findAllBySearchCondition(any(), any(), any());
     }
     
     @Test
@@ -95,7 +96,7 @@ class RoomDSLRepositoryTest {
         SearchRoomRequest request = new SearchRoomRequest(null, "", null, null);
         
         // When
-        Page<SelectRoomForAdminDTO> result = roomDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectRoomForAdminDTO> result = roomDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
         
         // Then
         assertNotNull(result);
@@ -112,7 +113,7 @@ class RoomDSLRepositoryTest {
         SearchRoomRequest request = new SearchRoomRequest(SearchRoomType.NAME, "일반", null, null);
         
         // When
-        Page<SelectRoomForAdminDTO> result = roomDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectRoomForAdminDTO> result = roomDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
         
         // Then
         assertNotNull(result);
@@ -127,7 +128,7 @@ class RoomDSLRepositoryTest {
         SearchRoomRequest request = new SearchRoomRequest(SearchRoomType.DESCRIPTION, "room2", null, null);
         
         // When
-        Page<SelectRoomForAdminDTO> result = roomDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectRoomForAdminDTO> result = roomDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
         
         // Then
         assertNotNull(result);
@@ -143,7 +144,7 @@ class RoomDSLRepositoryTest {
         SearchRoomRequest request = new SearchRoomRequest(SearchRoomType.DATE, null, today, today);
         
         // When
-        Page<SelectRoomForAdminDTO> result = roomDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectRoomForAdminDTO> result = roomDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
         
         // Then
         assertNotNull(result);
@@ -157,7 +158,7 @@ class RoomDSLRepositoryTest {
         SearchRoomRequest request = new SearchRoomRequest(SearchRoomType.NAME, "존재하지않는방", null, null);
         
         // When
-        Page<SelectRoomForAdminDTO> result = roomDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectRoomForAdminDTO> result = roomDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
         
         // Then
         assertNotNull(result);
@@ -173,7 +174,7 @@ class RoomDSLRepositoryTest {
         Pageable customPageable = PageRequest.of(1, 1); // 두 번째 페이지, 페이지당 1개
         
         // When
-        Page<SelectRoomForAdminDTO> result = roomDSLRepository.findAllBySearchCondition(request, customPageable);
+        Page<SelectRoomForAdminDTO> result = roomDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), customPageable);
         
         // Then
         assertNotNull(result);
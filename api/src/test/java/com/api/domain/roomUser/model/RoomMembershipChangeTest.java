@@ -0,0 +1,141 @@
+package com.api.domain.roomUser.model;
+
+import com.api.domain.chat.model.ChatMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoomMembershipChangeTest {
+
+    @Test
+    @DisplayName("같은 사용자의 이벤트는 버전이 가장 큰 최종 상태만 남는지 테스트")
+    void lastEventWins() {
+        List<RoomMembershipChange> changes = RoomMembershipChange.coalesce(List.of(
+                event(1, ChatMessage.MessageType.JOIN, "alice", "1"),
+                event(2, ChatMessage.MessageType.LEAVE, "alice", "1"),
+                event(3, ChatMessage.MessageType.JOIN, "alice", "1")
+        ));
+
+        assertEquals(List.of(new RoomMembershipChange(1L, "alice", true, 3)), changes);
+    }
+
+    @Test
+    @DisplayName("배치 안의 순서가 뒤바뀌어도 버전 기준 최종 상태가 남는지 테스트")
+    void orderInsideBatchIgnored() {
+        List<RoomMembershipChange> changes = RoomMembershipChange.coalesce(List.of(
+                event(5, ChatMessage.MessageType.LEAVE, "alice", "1"),
+                event(3, ChatMessage.MessageType.JOIN, "alice", "1")
+        ));
+
+        assertEquals(List.of(new RoomMembershipChange(1L, "alice", false, 5)), changes);
+    }
+
+    @Test
+    @DisplayName("방별로 묶고 사용자별 최종 상태만 남기는지 테스트")
+    void groupByRoom() {
+        List<RoomMembershipChange> changes = RoomMembershipChange.coalesce(List.of(
+                event(1, ChatMessage.MessageType.JOIN, "alice", "1"),
+                event(2, ChatMessage.MessageType.JOIN, "bob", "2"),
+                event(3, ChatMessage.MessageType.LEAVE, "carol", "1"),
+                event(4, ChatMessage.MessageType.LEAVE, "bob", "2")
+        ));
+
+        assertEquals(List.of(
+                new RoomMembershipChange(1L, "alice", true, 1),
+                new RoomMembershipChange(1L, "carol", false, 3),
+                new RoomMembershipChange(2L, "bob", false, 4)
+        ), changes);
+    }
+
+    @Test
+    @DisplayName("JOIN/LEAVE가 아니거나 방 ID가 숫자가 아닌 이벤트는 무시하는지 테스트")
+    void ignoreOthers() {
+        List<RoomMembershipChange> changes = RoomMembershipChange.coalesce(List.of(
+                event(1, ChatMessage.MessageType.CHAT, "alice", "1"),
+                event(2, ChatMessage.MessageType.KICK, "alice", "1"),
+                event(3, ChatMessage.MessageType.JOIN, "alice", "lobby")
+        ));
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    @DisplayName("LEAVE 배치가 JOIN 배치보다 먼저 반영되어도 최종 상태는 퇴장인지 테스트")
+    void leaveBeforeJoin() {
+        Table table = new Table();
+
+        table.apply(RoomMembershipChange.coalesce(List.of(event(2, ChatMessage.MessageType.LEAVE, "alice", "1"))));
+        table.apply(RoomMembershipChange.coalesce(List.of(event(1, ChatMessage.MessageType.JOIN, "alice", "1"))));
+
+        assertEquals(new RoomMembershipChange.State(2, false), table.states.get("1:alice"));
+        assertEquals(List.of(RoomMembershipChange.Action.INSERT_LEFT, RoomMembershipChange.Action.SKIP), table.actions);
+    }
+
+    @Test
+    @DisplayName("같은 배치를 두 번 반영해도 입장 행이 중복되지 않는지 테스트")
+    void sameBatchTwice() {
+        Table table = new Table();
+        List<RoomMembershipChange> batch = RoomMembershipChange.coalesce(List.of(
+                event(1, ChatMessage.MessageType.JOIN, "alice", "1"),
+                event(2, ChatMessage.MessageType.JOIN, "bob", "1"),
+                event(3, ChatMessage.MessageType.LEAVE, "bob", "1")
+        ));
+
+        table.apply(batch);
+        Map<String, RoomMembershipChange.State> afterFirst = new HashMap<>(table.states);
+        table.apply(batch);
+
+        assertEquals(afterFirst, table.states);
+        assertEquals(List.of(
+                RoomMembershipChange.Action.INSERT_JOINED,
+                RoomMembershipChange.Action.INSERT_LEFT,
+                RoomMembershipChange.Action.SKIP,
+                RoomMembershipChange.Action.SKIP
+        ), table.actions);
+    }
+
+    @Test
+    @DisplayName("이미 입장 중이면 새 행 없이 버전만 갱신하는지 테스트")
+    void refreshWhenAlreadyJoined() {
+        RoomMembershipChange change = new RoomMembershipChange(1L, "alice", true, 10);
+
+        assertEquals(RoomMembershipChange.Action.REFRESH_JOINED, change.plan(new RoomMembershipChange.State(0, true)));
+        assertEquals(RoomMembershipChange.Action.SKIP, change.plan(new RoomMembershipChange.State(10, true)));
+    }
+
+    @Test
+    @DisplayName("스트림 ID 순서와 버전 순서가 같은지 테스트")
+    void versionFollowsStreamOrder() {
+        assertTrue(RoomMembershipChange.versionOf(1000, 1) > RoomMembershipChange.versionOf(1000, 0));
+        assertTrue(RoomMembershipChange.versionOf(1001, 0) > RoomMembershipChange.versionOf(1000, 0xFFFF));
+    }
+
+    private static RoomMembershipChange.Event event(long version, ChatMessage.MessageType type, String sender, String roomId) {
+        return new RoomMembershipChange.Event(version, new ChatMessage(type, sender, "", roomId));
+    }
+
+    /**
+     * room_user 상태를 (방:사용자) → State로 흉내 내는 테이블
+     */
+    private static class Table {
+        private final Map<String, RoomMembershipChange.State> states = new HashMap<>();
+        private final List<RoomMembershipChange.Action> actions = new ArrayList<>();
+
+        void apply(List<RoomMembershipChange> changes) {
+            for (RoomMembershipChange change : changes) {
+                String key = change.roomId() + ":" + change.username();
+                RoomMembershipChange.Action action = change.plan(states.getOrDefault(key, RoomMembershipChange.State.NONE));
+                actions.add(action);
+                if (action != RoomMembershipChange.Action.SKIP) {
+                    states.put(key, new RoomMembershipChange.State(change.version(), change.joined()));
+                }
+            }
+        }
+    }
+}
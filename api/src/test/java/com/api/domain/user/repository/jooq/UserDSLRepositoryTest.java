@@ -1,9 +1,10 @@
 package com.api.domain.user.repository.jooq;
 
+import com.api.common.query.AdminPageRequest;
+import com.api.common.query.AdminQueryExecutor;
 import com.api.domain.user.model.SearchUserRequest;
 import com.api.domain.user.model.SelectUserForAdminDTO;
 import com.api.domain.user.model.enums.SearchUserType;
-import org.jooq.DSLContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -29,7 +30,7 @@ import static org.mockito.Mockito.doAnswer;
 class UserDSLRepositoryTest {
 
     @Mock
-    private DSLContext dslContext;
+    private AdminQueryExecutor adminQueryExecutor;
 
     // Spy를 사용하여 실제 메서드를 테스트하되, 일부 동작만 모킹
     @InjectMocks
@@ -56,7 +57,7 @@ class UserDSLRepositoryTest {
         // 이 방식은 UserDSLRepository의 내부 구현을 알고 있어야 함
         doAnswer(invocation -> {
             SearchUserRequest request = invocation.getArgument(0);
-            Pageable pageable = invocation.getArgument(1);
+            Pageable pageable = invocation.getArgument(2);
 
             // 검색 조건에 따라 필터링된 결과 반환
             List<SelectUserForAdminDTO> filteredList;
@@ -87,7 +88,7 @@ class UserDSLRepositoryTest {
             }
 
             return new PageImpl<>(filteredList, pageable, filteredList.size());
-        }).when(userDSLRepository).findAllBySearchCondition(any(), any());
+        }).when(userDSLRepository).findAllBySearchCondition(any(), any(), any());
     }
 
     @Test
@@ -97,7 +98,7 @@ class UserDSLRepositoryTest {
         SearchUserRequest request = SearchUserRequest.of(SearchUserType.ALL, "");
 
         // When
-        Page<SelectUserForAdminDTO> result = userDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectUserForAdminDTO> result = userDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
 
         // Then
         assertEquals(2, result.getTotalElements());
@@ -113,7 +114,7 @@ class UserDSLRepositoryTest {
         SearchUserRequest request = SearchUserRequest.of(SearchUserType.USERNAME, "admin");
 
         // When
-        Page<SelectUserForAdminDTO> result = userDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectUserForAdminDTO> result = userDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
 
         // Then
         assertEquals(1, result.getTotalElements());
@@ -128,7 +129,7 @@ class UserDSLRepositoryTest {
         SearchUserRequest request = SearchUserRequest.of(SearchUserType.ID, "1");
 
         // When
-        Page<SelectUserForAdminDTO> result = userDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectUserForAdminDTO> result = userDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
 
         // Then
         assertEquals(1, result.getTotalElements());
@@ -143,7 +144,7 @@ class UserDSLRepositoryTest {
         SearchUserRequest request = SearchUserRequest.of(SearchUserType.ROLE, "ADMIN");
 
         // When
-        Page<SelectUserForAdminDTO> result = userDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectUserForAdminDTO> result = userDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
 
         // Then
         assertEquals(1, result.getTotalElements());
@@ -158,7 +159,7 @@ class UserDSLRepositoryTest {
         SearchUserRequest request = SearchUserRequest.of(SearchUserType.USERNAME, "nonexistent");
 
         // When
-        Page<SelectUserForAdminDTO> result = userDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectUserForAdminDTO> result = userDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
 
         // Then
         assertEquals(0, result.getTotalElements());
@@ -172,7 +173,7 @@ class UserDSLRepositoryTest {
         SearchUserRequest request = SearchUserRequest.of(SearchUserType.ID, "notANumber");
 
         // When
-        Page<SelectUserForAdminDTO> result = userDSLRepository.findAllBySearchCondition(request, pageable);
+        Page<SelectUserForAdminDTO> result = userDSLRepository.findAllBySearchCondition(request, AdminPageRequest.defaults(), pageable);
 
         // Then
         assertEquals(0, result.getTotalElements());
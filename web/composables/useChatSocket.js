@@ -8,7 +8,10 @@ export function useChatSocket(roomId, username) {
         socket = new WebSocket(`ws://localhost:8080/ws-chat?roomId=${roomId}`);
         socket.onmessage = event => {
             const msg = JSON.parse(event.data);
-            if (msg.roomId === roomId) {
+            if (msg.roomId !== roomId) return;
+            if (msg.type === 'HISTORY') {
+                messages.value.push(...msg.messages);
+            } else {
                 messages.value.push(msg);
             }
         };